@@ -0,0 +1,160 @@
+package org.example.selenium.framework.assertions;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * A single assertion as seen by {@link AssertionListener}s. One event is created per assertion and passed to every
+ * listener notification, and it only keeps references to the matcher and the actual value. Description texts are
+ * rendered the first time they are asked for and then reused, so passing assertions without an explicit
+ * description cost no string building unless a report or log needs them.
+ * <p>
+ * Listeners may keep the event to render its texts later. The actual value, which can be large (a page source or
+ * a screenshot), is only available while the listeners are notified and is released afterwards.
+ * </p>
+ */
+public final class AssertionEvent {
+    private final Matcher<?> matcher;
+    private final String description;
+    private final long startNanos;
+    private final boolean eventual;
+    private Object actual;
+    private AssertionError error;
+    private int attempts;
+    private long elapsedMillis;
+    private String renderedDescription;
+    private String renderedDetail;
+
+    AssertionEvent(Matcher<?> matcher, String description, long startNanos, boolean eventual) {
+        this.matcher = matcher;
+        this.description = description;
+        this.startNanos = startNanos;
+        this.eventual = eventual;
+    }
+
+    void complete(Object actual, AssertionError error, int attempts, long elapsedMillis) {
+        this.actual = actual;
+        this.error = error;
+        this.attempts = attempts;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Drop the actual value once all listeners were notified. A failure detail that needs the value to describe the
+     * mismatch is rendered first.
+     */
+    void releaseActual() {
+        if (error != null && !eventual && error.getMessage() == null) {
+            detail();
+        }
+        actual = null;
+    }
+
+    public Matcher<?> matcher() {
+        return matcher;
+    }
+
+    /**
+     * The value the matcher was applied to; for eventual assertions the last value evaluated.
+     * Null before the assertion has completed and after the listeners were notified of its outcome.
+     */
+    public Object actual() {
+        return actual;
+    }
+
+    /**
+     * The error of a failed assertion, null if it passed or hasn't completed yet.
+     */
+    public AssertionError error() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Whether this is an eventual assertion, which evaluates its value repeatedly until it matches.
+     */
+    public boolean isEventual() {
+        return eventual;
+    }
+
+    /**
+     * {@link System#nanoTime()} when the assertion started.
+     */
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Number of times the value was evaluated, 1 for plain assertions.
+     */
+    public int attempts() {
+        return attempts;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * The description given to the assertion, or "Expected: " followed by the matcher description if there was none.
+     */
+    public String description() {
+        if (renderedDescription == null) {
+            renderedDescription = description != null ? description : expected(isEventual() ? "Eventually expected: " : "Expected: ").toString();
+        }
+        return renderedDescription;
+    }
+
+    /**
+     * What the assertion expected and, for a failure, what went wrong.
+     */
+    public String detail() {
+        if (renderedDetail == null) {
+            renderedDetail = renderDetail();
+        }
+        return renderedDetail;
+    }
+
+    private String renderDetail() {
+        if (error != null) {
+            if (eventual) {
+                // The error message already describes the matcher, the last mismatch and the attempts
+                return error.getMessage();
+            }
+            StringDescription errorDescription = expected("Expected: ");
+            errorDescription.appendText("\n");
+            if (error.getMessage() != null) {
+                errorDescription.appendText(error.getMessage());
+            } else {
+                matcher.describeMismatch(actual, errorDescription);
+            }
+            return errorDescription.toString();
+        }
+        if (eventual) {
+            return expected("Expected: ")
+                    .appendText(String.format(" (passed after %d attempts in %dms)", attempts, elapsedMillis))
+                    .toString();
+        }
+        // Without an explicit description the detail is the same text, render it only once
+        return description == null ? description() : expected("Expected: ").toString();
+    }
+
+    private StringDescription expected(String prefix) {
+        StringDescription expected = new StringDescription();
+        expected.appendText(prefix).appendDescriptionOf(matcher);
+        return expected;
+    }
+
+    @Override
+    public String toString() {
+        return "AssertionEvent{" +
+                "description='" + description() + '\'' +
+                ", success=" + isSuccess() +
+                ", attempts=" + attempts +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
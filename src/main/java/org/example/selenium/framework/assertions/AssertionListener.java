@@ -1,40 +1,31 @@
 package org.example.selenium.framework.assertions;
 
-import org.hamcrest.Matcher;
-
 /**
  * Listener for assertion events.
- * This interface defines callbacks for assertion lifecycle events.
+ * This interface defines callbacks for assertion lifecycle events. All callbacks of one assertion receive the same
+ * {@link AssertionEvent}; render its texts only when they are needed.
  */
 public interface AssertionListener {
     /**
-     * Called before an assertion is made.
+     * Called before an assertion is made. The event has no outcome yet.
+     * Plain assertions have already evaluated their value at this point, eventual assertions have not.
      *
-     * @param actual The actual value
-     * @param matcher The matcher to apply
-     * @param description Description of the assertion
-     * @param <T> Type of the actual value
+     * @param event The assertion
      */
-    <T> void beforeAssertion(T actual, Matcher<? super T> matcher, String description);
-    
+    default void beforeAssertion(AssertionEvent event) {
+    }
+
     /**
      * Called after a successful assertion.
      *
-     * @param actual The actual value
-     * @param matcher The matcher that was applied
-     * @param description Description of the assertion
-     * @param <T> Type of the actual value
+     * @param event The assertion, with the value that matched
      */
-    <T> void onAssertionSuccess(T actual, Matcher<? super T> matcher, String description);
-    
+    void onAssertionSuccess(AssertionEvent event);
+
     /**
-     * Called after a failed assertion.
+     * Called after a failed assertion, before the error is thrown.
      *
-     * @param actual The actual value
-     * @param matcher The matcher that was applied
-     * @param description Description of the assertion
-     * @param error The assertion error
-     * @param <T> Type of the actual value
+     * @param event The assertion, with the value that didn't match and the error
      */
-    <T> void onAssertionFailure(T actual, Matcher<? super T> matcher, String description, AssertionError error);
-}
\ No newline at end of file
+    void onAssertionFailure(AssertionEvent event);
+}
@@ -1,51 +1,134 @@
 package org.example.selenium.framework.assertions;
 
+import org.example.selenium.framework.config.FrameworkConfig;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.StringDescription;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of HamcrestAssertionService.
  * This class uses Hamcrest matchers to perform assertions and notifies listeners about assertion events.
  */
 public class DefaultHamcrestAssertionService implements HamcrestAssertionService {
+    private static final long INITIAL_POLL_MILLIS = FrameworkConfig.INSTANCE.getConfigAsInt("assertion.eventually.pollMillis", 50);
+    private static final long MAX_POLL_MILLIS = FrameworkConfig.INSTANCE.getConfigAsInt("assertion.eventually.maxPollMillis", 1000);
     private final List<AssertionListener> listeners = new CopyOnWriteArrayList<>();
     
     @Override
     public <T> void assertThat(T actual, Matcher<? super T> matcher, String description) {
-        // Notify listeners before the assertion
-        notifyBeforeAssertion(actual, matcher, description);
-        
-        try {
-            // Perform the assertion
-            MatcherAssert.assertThat(description, actual, matcher);
-            
-            // Notify listeners about the successful assertion
-            notifyAssertionSuccess(actual, matcher, description);
-        } catch (AssertionError error) {
-            // Notify listeners about the failed assertion
-            notifyAssertionFailure(actual, matcher, description, error);
-            
-            // Re-throw the error
-            throw error;
+        AssertionEvent event = new AssertionEvent(matcher, description, System.nanoTime(), false);
+        notifyBeforeAssertion(event);
+
+        if (matcher.matches(actual)) {
+            event.complete(actual, null, 1, elapsedMillis(event.startNanos()));
+            notifyAssertionSuccess(event);
+            return;
         }
+        AssertionError error = mismatch(event.description(), actual, matcher);
+        event.complete(actual, error, 1, elapsedMillis(event.startNanos()));
+        notifyAssertionFailure(event);
+        throw error;
     }
     
     @Override
     public <T> void assertThat(T actual, Matcher<? super T> matcher) {
-        // Create a default description based on the matcher
-        StringDescription description = new StringDescription();
-        description.appendText("Expected: ")
-                  .appendDescriptionOf(matcher);
-        
-        // Delegate to the other method
-        assertThat(actual, matcher, description.toString());
+        // The default description is only rendered if a listener or the failure message needs it
+        assertThat(actual, matcher, null);
     }
     
+    @Override
+    public <T> void assertEventually(Supplier<? extends T> actual, Matcher<? super T> matcher, Duration timeout, String description) {
+        long startNanos = System.nanoTime();
+        AssertionEvent event = new AssertionEvent(matcher, description, startNanos, true);
+        notifyBeforeAssertion(event);
+
+        long deadlineNanos = startNanos + timeout.toNanos();
+        long pollMillis = Math.max(1, INITIAL_POLL_MILLIS);
+        int attempts = 0;
+        T value = null;
+        RuntimeException lastException = null;
+        while (true) {
+            attempts++;
+            try {
+                value = actual.get();
+                lastException = null;
+                if (matcher.matches(value)) {
+                    event.complete(value, null, attempts, elapsedMillis(startNanos));
+                    notifyAssertionSuccess(event);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // The value may not be available yet, e.g. an element that is still being rendered
+                value = null;
+                lastException = e;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(pollMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            pollMillis = Math.max(1, Math.min(pollMillis * 2, MAX_POLL_MILLIS));
+        }
+
+        long elapsedMillis = elapsedMillis(startNanos);
+        AssertionError error = eventualFailure(value, matcher, event.description(), lastException, attempts, elapsedMillis);
+        event.complete(value, error, attempts, elapsedMillis);
+        notifyAssertionFailure(event);
+        throw error;
+    }
+
+    @Override
+    public <T> void assertEventually(Supplier<? extends T> actual, Matcher<? super T> matcher, Duration timeout) {
+        assertEventually(actual, matcher, timeout, null);
+    }
+
+    /**
+     * Build the error of a timed out eventual assertion, with the usual Hamcrest mismatch of the last attempt.
+     */
+    private <T> AssertionError eventualFailure(T value, Matcher<? super T> matcher, String description, RuntimeException lastException,
+                                               int attempts, long elapsedMillis) {
+        String summary = String.format("%s (gave up after %d attempts in %dms)", description, attempts, elapsedMillis);
+        if (lastException != null) {
+            StringDescription message = new StringDescription();
+            message.appendText(summary)
+                    .appendText("\nExpected: ")
+                    .appendDescriptionOf(matcher)
+                    .appendText("\n     but: last attempt threw ")
+                    .appendText(lastException.toString());
+            return new AssertionError(message.toString(), lastException);
+        }
+        return mismatch(summary, value, matcher);
+    }
+
+    /**
+     * The error Hamcrest raises for a value that doesn't match. Only called after the matcher failed.
+     */
+    private static <T> AssertionError mismatch(String reason, T actual, Matcher<? super T> matcher) {
+        try {
+            MatcherAssert.assertThat(reason, actual, matcher);
+            // Only reached with a matcher that doesn't give the same answer twice
+            return new AssertionError(reason);
+        } catch (AssertionError error) {
+            return error;
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     @Override
     public void addListener(AssertionListener listener) {
         listeners.add(listener);
@@ -59,27 +142,35 @@ public class DefaultHamcrestAssertionService implements HamcrestAssertionService
     /**
      * Notify all listeners before an assertion is made.
      */
-    private <T> void notifyBeforeAssertion(T actual, Matcher<? super T> matcher, String description) {
+    private void notifyBeforeAssertion(AssertionEvent event) {
         for (AssertionListener listener : listeners) {
-            listener.beforeAssertion(actual, matcher, description);
+            listener.beforeAssertion(event);
         }
     }
     
     /**
-     * Notify all listeners after a successful assertion.
+     * Notify all listeners after a successful assertion. Listeners keeping the event don't keep the actual value.
      */
-    private <T> void notifyAssertionSuccess(T actual, Matcher<? super T> matcher, String description) {
-        for (AssertionListener listener : listeners) {
-            listener.onAssertionSuccess(actual, matcher, description);
+    private void notifyAssertionSuccess(AssertionEvent event) {
+        try {
+            for (AssertionListener listener : listeners) {
+                listener.onAssertionSuccess(event);
+            }
+        } finally {
+            event.releaseActual();
         }
     }
     
     /**
-     * Notify all listeners after a failed assertion.
+     * Notify all listeners after a failed assertion. Listeners keeping the event don't keep the actual value.
      */
-    private <T> void notifyAssertionFailure(T actual, Matcher<? super T> matcher, String description, AssertionError error) {
-        for (AssertionListener listener : listeners) {
-            listener.onAssertionFailure(actual, matcher, description, error);
+    private void notifyAssertionFailure(AssertionEvent event) {
+        try {
+            for (AssertionListener listener : listeners) {
+                listener.onAssertionFailure(event);
+            }
+        } finally {
+            event.releaseActual();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package org.example.selenium.framework.assertions;
+
+import org.hamcrest.Matcher;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates batched DOM checks: all values are read from the page by one script, then every check is asserted
+ * locally and reported as its own assertion. All checks are evaluated even if one fails; the failures are thrown
+ * together afterwards.
+ * <p>
+ * Text and visibility are read with DOM APIs (innerText, checkVisibility), which can differ slightly from what
+ * {@link org.openqa.selenium.WebElement#getText()} and {@link org.openqa.selenium.WebElement#isDisplayed()} report
+ * for unusual markup.
+ * </p>
+ */
+final class DomAssertions {
+    static final String SCRIPT = """
+            var checks = arguments[0], found = {}, results = [];
+            function find(using, value) {
+              var key = using + '\\u0000' + value;
+              if (found[key]) {
+                return found[key];
+              }
+              var elements;
+              switch (using) {
+                case 'id':
+                  // All elements with the id, as findElements returns them, not only the first
+                  elements = Array.prototype.slice.call(document.querySelectorAll('[id="' + CSS.escape(value) + '"]'));
+                  break;
+                case 'name':
+                  elements = Array.prototype.slice.call(document.getElementsByName(value));
+                  break;
+                case 'class name':
+                  elements = Array.prototype.slice.call(document.getElementsByClassName(value));
+                  break;
+                case 'css selector':
+                  elements = Array.prototype.slice.call(document.querySelectorAll(value));
+                  break;
+                case 'xpath':
+                  var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  elements = [];
+                  for (var i = 0; i < snapshot.snapshotLength; i++) {
+                    elements.push(snapshot.snapshotItem(i));
+                  }
+                  break;
+                case 'tag name':
+                  elements = Array.prototype.slice.call(document.getElementsByTagName(value));
+                  break;
+                case 'link text':
+                case 'partial link text':
+                  elements = Array.prototype.filter.call(document.getElementsByTagName('a'), function (a) {
+                    var text = (a.innerText || '').trim();
+                    return using === 'link text' ? text === value : text.indexOf(value) >= 0;
+                  });
+                  break;
+                default:
+                  throw new Error('Unsupported locator strategy: ' + using);
+              }
+              return found[key] = elements;
+            }
+            function displayed(element) {
+              if (element.checkVisibility) {
+                return element.checkVisibility({checkOpacity: true, checkVisibilityCSS: true});
+              }
+              return element.getClientRects().length > 0 && getComputedStyle(element).visibility !== 'hidden';
+            }
+            checks.forEach(function (check) {
+              var kind = check[0];
+              if (kind === 'TITLE') {
+                results.push([true, document.title]);
+                return;
+              }
+              var elements = find(check[1], check[2]);
+              if (kind === 'COUNT') {
+                results.push([true, elements.length]);
+                return;
+              }
+              var element = elements[0];
+              if (!element) {
+                results.push([false, kind === 'DISPLAYED' ? false : null]);
+                return;
+              }
+              switch (kind) {
+                case 'TEXT': results.push([true, (element.innerText || element.textContent || '').trim()]); break;
+                case 'ATTRIBUTE': results.push([true, element.getAttribute(check[3])]); break;
+                case 'PROPERTY': results.push([true, element[check[3]]]); break;
+                case 'DISPLAYED': results.push([true, displayed(element)]); break;
+              }
+            });
+            return results;
+            """;
+
+    private DomAssertions() {
+    }
+
+    static void assertDom(WebDriver driver, DomChecks domChecks, HamcrestAssertionService assertionService) {
+        if (!(driver instanceof JavascriptExecutor javascriptExecutor)) {
+            throw new IllegalArgumentException("Batched DOM checks need a driver that can execute scripts");
+        }
+        List<DomCheck> checks = domChecks.checks();
+        if (checks.isEmpty()) {
+            return;
+        }
+        List<List<Object>> arguments = new ArrayList<>(checks.size());
+        for (DomCheck check : checks) {
+            List<Object> argument = new ArrayList<>(4);
+            argument.add(check.kind().name());
+            if (check.locator() != null) {
+                By.Remotable.Parameters parameters = ((By.Remotable) check.locator()).getRemoteParameters();
+                argument.add(parameters.using());
+                argument.add(String.valueOf(parameters.value()));
+            } else {
+                argument.add(null);
+                argument.add(null);
+            }
+            argument.add(check.name());
+            arguments.add(argument);
+        }
+
+        Object result = javascriptExecutor.executeScript(SCRIPT, arguments);
+        if (!(result instanceof List<?> values) || values.size() != checks.size()) {
+            throw new IllegalStateException("Unexpected result of batched DOM checks: " + result);
+        }
+
+        List<AssertionError> failures = new ArrayList<>();
+        for (int i = 0; i < checks.size(); i++) {
+            DomCheck check = checks.get(i);
+            List<?> value = (List<?>) values.get(i);
+            boolean elementFound = Boolean.TRUE.equals(value.get(0));
+            Object actual = value.get(1);
+            if (check.kind() == DomCheck.Kind.COUNT) {
+                // Scripts return numbers as Long, count matchers are written against int
+                actual = ((Number) actual).intValue();
+            }
+            String description = check.description();
+            if (!elementFound && description != null) {
+                description = description + " (no element found for " + check.locator() + ")";
+            }
+            try {
+                assertionService.assertThat(actual, matcher(check), description);
+            } catch (AssertionError error) {
+                failures.add(error);
+            }
+        }
+
+        if (failures.size() == 1) {
+            throw failures.getFirst();
+        }
+        if (!failures.isEmpty()) {
+            StringBuilder message = new StringBuilder()
+                    .append(failures.size()).append(" of ").append(checks.size()).append(" DOM checks failed");
+            failures.forEach(failure -> message.append(System.lineSeparator()).append(failure.getMessage()));
+            AssertionError error = new AssertionError(message.toString());
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Object> matcher(DomCheck check) {
+        return (Matcher<Object>) check.matcher();
+    }
+}
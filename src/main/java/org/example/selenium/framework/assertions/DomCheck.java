@@ -0,0 +1,43 @@
+package org.example.selenium.framework.assertions;
+
+import org.hamcrest.Matcher;
+import org.openqa.selenium.By;
+
+/**
+ * A single check of a batched DOM assertion: which value to read from the page and the matcher it must satisfy.
+ *
+ * @param kind What to read
+ * @param locator The element to read it from, null for page-level values such as the title
+ * @param name Attribute or property name, null for other kinds
+ * @param matcher The matcher to apply to the value
+ * @param description Description of the assertion, null for a default based on the matcher
+ */
+public record DomCheck(Kind kind, By locator, String name, Matcher<?> matcher, String description) {
+
+    public enum Kind {
+        /**
+         * Rendered text of the first matching element, trimmed.
+         */
+        TEXT,
+        /**
+         * Attribute of the first matching element as written in the DOM, null if it is absent.
+         */
+        ATTRIBUTE,
+        /**
+         * JavaScript property of the first matching element, e.g. value or checked.
+         */
+        PROPERTY,
+        /**
+         * Whether the first matching element is rendered and visible.
+         */
+        DISPLAYED,
+        /**
+         * Number of matching elements, as an Integer.
+         */
+        COUNT,
+        /**
+         * Title of the page.
+         */
+        TITLE
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.selenium.framework.assertions;
+
+import org.hamcrest.Matcher;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builder of the checks of a batched DOM assertion, see {@link HamcrestAssertions#assertDom}.
+ * Locators must be standard Selenium locators (id, name, class name, tag name, CSS, XPath or link text),
+ * because they are resolved by a script in the page.
+ */
+public class DomChecks {
+    private final List<DomCheck> checks = new ArrayList<>();
+
+    public static DomChecks create() {
+        return new DomChecks();
+    }
+
+    /**
+     * Check the rendered text of the first element matching the locator.
+     */
+    public DomChecks text(By locator, Matcher<? super String> matcher, String description) {
+        return add(DomCheck.Kind.TEXT, requireRemotable(locator), null, matcher, description);
+    }
+
+    /**
+     * Check an attribute of the first element matching the locator.
+     */
+    public DomChecks attribute(By locator, String name, Matcher<? super String> matcher, String description) {
+        return add(DomCheck.Kind.ATTRIBUTE, requireRemotable(locator), name, matcher, description);
+    }
+
+    /**
+     * Check a JavaScript property of the first element matching the locator. Numbers are returned as Long or
+     * Double, as by {@link org.openqa.selenium.JavascriptExecutor#executeScript}.
+     */
+    public DomChecks property(By locator, String name, Matcher<?> matcher, String description) {
+        return add(DomCheck.Kind.PROPERTY, requireRemotable(locator), name, matcher, description);
+    }
+
+    /**
+     * Check whether the first element matching the locator is displayed; false if there is none.
+     */
+    public DomChecks displayed(By locator, Matcher<? super Boolean> matcher, String description) {
+        return add(DomCheck.Kind.DISPLAYED, requireRemotable(locator), null, matcher, description);
+    }
+
+    /**
+     * Check the number of elements matching the locator.
+     */
+    public DomChecks count(By locator, Matcher<? super Integer> matcher, String description) {
+        return add(DomCheck.Kind.COUNT, requireRemotable(locator), null, matcher, description);
+    }
+
+    /**
+     * Check the title of the page.
+     */
+    public DomChecks title(Matcher<? super String> matcher, String description) {
+        return add(DomCheck.Kind.TITLE, null, null, matcher, description);
+    }
+
+    public List<DomCheck> checks() {
+        return Collections.unmodifiableList(checks);
+    }
+
+    private DomChecks add(DomCheck.Kind kind, By locator, String name, Matcher<?> matcher, String description) {
+        checks.add(new DomCheck(kind, locator, name, matcher, description));
+        return this;
+    }
+
+    private static By requireRemotable(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Batched DOM checks need a standard locator that can be resolved in the page: " + locator);
+        }
+        return locator;
+    }
+}
@@ -2,6 +2,9 @@ package org.example.selenium.framework.assertions;
 
 import org.hamcrest.Matcher;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 /**
  * Service for making assertions using Hamcrest matchers and tracking results.
  * This interface defines the core functionality of the assertion service.
@@ -12,7 +15,7 @@ public interface HamcrestAssertionService {
      *
      * @param actual The actual value
      * @param matcher The matcher to apply
-     * @param description Description of the assertion
+     * @param description Description of the assertion, null for a default based on the matcher
      * @param <T> Type of the actual value
      * @throws AssertionError if the assertion fails
      */
@@ -28,6 +31,32 @@ public interface HamcrestAssertionService {
      * @throws AssertionError if the assertion fails
      */
     <T> void assertThat(T actual, Matcher<? super T> matcher);
+
+    /**
+     * Assert that the value returned by the supplier eventually matches the given matcher.
+     * The supplier is re-evaluated with a growing poll interval until the matcher passes or the timeout expires.
+     * Exceptions thrown by the supplier count as a failed attempt. The whole wait is reported as one assertion.
+     *
+     * @param actual Supplies the actual value, called once per attempt
+     * @param matcher The matcher to apply
+     * @param timeout How long to keep trying
+     * @param description Description of the assertion, null for a default based on the matcher
+     * @param <T> Type of the actual value
+     * @throws AssertionError if the value doesn't match before the timeout
+     */
+    <T> void assertEventually(Supplier<? extends T> actual, Matcher<? super T> matcher, Duration timeout, String description);
+
+    /**
+     * Assert that the value returned by the supplier eventually matches the given matcher.
+     * Uses a default description based on the matcher.
+     *
+     * @param actual Supplies the actual value, called once per attempt
+     * @param matcher The matcher to apply
+     * @param timeout How long to keep trying
+     * @param <T> Type of the actual value
+     * @throws AssertionError if the value doesn't match before the timeout
+     */
+    <T> void assertEventually(Supplier<? extends T> actual, Matcher<? super T> matcher, Duration timeout);
     
     /**
      * Add a listener for assertion events.
@@ -2,6 +2,10 @@ package org.example.selenium.framework.assertions;
 
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.function.Supplier;
 
 /**
  * Static utility class for making assertions using Hamcrest matchers.
@@ -53,6 +57,48 @@ public class HamcrestAssertions {
         getAssertionService().assertThat(actual, matcher, description);
     }
     
+    /**
+     * Assert that the value returned by the supplier eventually matches the given matcher, re-evaluating it until
+     * it matches or the timeout expires. Use this instead of sleeps and retry loops on dynamic pages.
+     *
+     * @param actual Supplies the actual value, called once per attempt
+     * @param matcher The matcher to apply
+     * @param timeout How long to keep trying
+     * @param <T> Type of the actual value
+     * @throws AssertionError if the value doesn't match before the timeout
+     */
+    public static <T> void assertEventually(Supplier<? extends T> actual, Matcher<? super T> matcher, Duration timeout) {
+        getAssertionService().assertEventually(actual, matcher, timeout);
+    }
+
+    /**
+     * Assert that the value returned by the supplier eventually matches the given matcher, re-evaluating it until
+     * it matches or the timeout expires. Use this instead of sleeps and retry loops on dynamic pages.
+     *
+     * @param actual Supplies the actual value, called once per attempt
+     * @param matcher The matcher to apply
+     * @param timeout How long to keep trying
+     * @param description Description of the assertion
+     * @param <T> Type of the actual value
+     * @throws AssertionError if the value doesn't match before the timeout
+     */
+    public static <T> void assertEventually(Supplier<? extends T> actual, Matcher<? super T> matcher, Duration timeout, String description) {
+        getAssertionService().assertEventually(actual, matcher, timeout, description);
+    }
+
+    /**
+     * Assert a batch of DOM checks with a single script call instead of one driver call per value.
+     * Every check is still reported as its own assertion. All checks are evaluated; if any fail, their errors are
+     * thrown together.
+     *
+     * @param driver The driver of the page to check
+     * @param checks The checks, see {@link DomChecks}
+     * @throws AssertionError if any check fails
+     */
+    public static void assertDom(WebDriver driver, DomChecks checks) {
+        DomAssertions.assertDom(driver, checks, getAssertionService());
+    }
+
     /**
      * Assert that the actual value is equal to the expected value.
      *
@@ -1,14 +1,16 @@
 package org.example.selenium.framework.assertions;
 
 import org.example.selenium.framework.timing.TimingService;
-import org.hamcrest.Matcher;
-import org.hamcrest.StringDescription;
 
 /**
  * Assertion listener that integrates with the TimingService.
  * This listener tracks assertion timing and results using the TimingService.
+ * Plain assertions are recorded once they completed, with their description and detail rendered only when
+ * the timings are read. Eventual assertions are timed as an open operation instead, so driver calls made
+ * while evaluating their value become its children.
  */
 public class TimingServiceAssertionListener implements AssertionListener {
+    private static final String ASSERTION = "Assertion";
     private final TimingService timingService;
 
     /**
@@ -21,38 +23,27 @@ public class TimingServiceAssertionListener implements AssertionListener {
     }
 
     @Override
-    public <T> void beforeAssertion(T actual, Matcher<? super T> matcher, String description) {
-        // Start timing the assertion
-        timingService.startTiming("Assertion", description);
+    public void beforeAssertion(AssertionEvent event) {
+        if (event.isEventual()) {
+            timingService.startTiming(ASSERTION, event.description());
+        }
     }
 
     @Override
-    public <T> void onAssertionSuccess(T actual, Matcher<? super T> matcher, String description) {
-        // End timin
-        StringDescription successDescription = new StringDescription();
-        successDescription.appendText("Expected: ")
-                .appendDescriptionOf(matcher);
-
-        timingService.endTiming("Assertion", description, true, successDescription.toString());
+    public void onAssertionSuccess(AssertionEvent event) {
+        record(event);
     }
 
     @Override
-    public <T> void onAssertionFailure(T actual, Matcher<? super T> matcher, String description, AssertionError error) {
-        // Create a detailed error message
-        StringDescription errorDescription = new StringDescription();
-        errorDescription.appendText("Expected: ")
-                .appendDescriptionOf(matcher)
-                .appendText("\n");
-
+    public void onAssertionFailure(AssertionEvent event) {
+        record(event);
+    }
 
-        // If the error has a message, use it; otherwise, describe the mismatch
-        if (error.getMessage() != null) {
-            errorDescription.appendText(error.getMessage());
+    private void record(AssertionEvent event) {
+        if (event.isEventual()) {
+            timingService.endTiming(ASSERTION, event.description(), event.isSuccess(), event.detail());
         } else {
-            matcher.describeMismatch(actual, errorDescription);
+            timingService.recordCompletedTiming(ASSERTION, event::description, event.startNanos(), event.isSuccess(), event::detail);
         }
-
-        // End timing with failure and the error message
-        timingService.endTiming("Assertion", description, false, errorDescription.toString());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package org.example.selenium.framework.browser;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.AddHasLaunchApp;
+import org.openqa.selenium.chromium.AddHasNetworkConditions;
+import org.openqa.selenium.chromium.AddHasPermissions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.AddHasContext;
+import org.openqa.selenium.firefox.AddHasExtensions;
+import org.openqa.selenium.firefox.AddHasFullPageScreenshot;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opens sessions through a command executor of the framework's choosing instead of the one the local driver
+ * classes build internally, which is how shared driver services and the pooled HTTP transport are used.
+ * <p>
+ * Sessions keep what the local drivers add on top of the W3C protocol: the executor defines the same
+ * browser-specific commands, Chrome and Edge sessions are {@link ChromiumDriver}s (CDP, network conditions,
+ * permissions, casting) and Firefox sessions are augmented with the Firefox interfaces (context, extensions,
+ * full page screenshots). They are not instances of ChromeDriver, EdgeDriver or FirefoxDriver though.
+ * </p>
+ */
+final class BrowserSessions {
+    private BrowserSessions() {
+    }
+
+    /**
+     * The driver and browser binaries Selenium Manager resolved for a service.
+     *
+     * @param driverPath Path of the driver executable
+     * @param browserPath Path of the browser binary, null to use the installed browser
+     */
+    record Binaries(String driverPath, String browserPath) {
+    }
+
+    static DriverService createService(String browserName) {
+        return switch (browserName) {
+            case "chrome" -> ChromeDriverService.createDefaultService();
+            case "firefox" -> GeckoDriverService.createDefaultService();
+            case "edge" -> EdgeDriverService.createDefaultService();
+            default -> throw new IllegalArgumentException("Driver services are not supported for browser: " + browserName);
+        };
+    }
+
+    /**
+     * Resolve the driver and browser binaries with Selenium Manager, as the local drivers do for every session.
+     */
+    static Binaries findBinaries(DriverService service, MutableCapabilities options) {
+        DriverFinder finder = new DriverFinder(service, options);
+        return new Binaries(finder.getDriverPath(), finder.hasBrowserPath() ? finder.getBrowserPath() : null);
+    }
+
+    /**
+     * Point the options at a browser resolved by Selenium Manager, which replaces the requested version.
+     */
+    static void useBrowser(MutableCapabilities options, Binaries binaries) {
+        if (binaries.browserPath() == null) {
+            return;
+        }
+        if (options instanceof ChromiumOptions<?> chromiumOptions) {
+            chromiumOptions.setBinary(binaries.browserPath());
+        } else if (options instanceof FirefoxOptions firefoxOptions) {
+            firefoxOptions.setBinary(binaries.browserPath());
+        }
+        options.setCapability(CapabilityType.BROWSER_VERSION, (Object) null);
+    }
+
+    /**
+     * The commands the local driver of a browser defines in addition to the W3C ones.
+     */
+    static Map<String, CommandInfo> additionalCommands(String browserName) {
+        Map<String, CommandInfo> commands = new HashMap<>();
+        switch (browserName) {
+            case "chrome" -> {
+                commands.putAll(new org.openqa.selenium.chrome.AddHasCasting().getAdditionalCommands());
+                commands.putAll(new org.openqa.selenium.chrome.AddHasCdp().getAdditionalCommands());
+                addChromiumCommands(commands);
+            }
+            case "edge" -> {
+                commands.putAll(new org.openqa.selenium.edge.AddHasCasting().getAdditionalCommands());
+                commands.putAll(new org.openqa.selenium.edge.AddHasCdp().getAdditionalCommands());
+                addChromiumCommands(commands);
+            }
+            case "firefox" -> {
+                commands.putAll(new AddHasContext().getAdditionalCommands());
+                commands.putAll(new AddHasExtensions().getAdditionalCommands());
+                commands.putAll(new AddHasFullPageScreenshot<>().getAdditionalCommands());
+            }
+            default -> {
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Open a session with the given executor, which must define the {@link #additionalCommands(String)} of the browser.
+     */
+    static WebDriver open(String browserName, CommandExecutor executor, Capabilities options) {
+        return switch (browserName) {
+            case "chrome" -> new ChromiumSession(executor, options, ChromeOptions.CAPABILITY);
+            case "edge" -> new ChromiumSession(executor, options, EdgeOptions.CAPABILITY);
+            case "firefox" -> new Augmenter().augment(new RemoteWebDriver(executor, options));
+            default -> throw new IllegalArgumentException("Driver services are not supported for browser: " + browserName);
+        };
+    }
+
+    private static void addChromiumCommands(Map<String, CommandInfo> commands) {
+        commands.putAll(new AddHasNetworkConditions().getAdditionalCommands());
+        commands.putAll(new AddHasPermissions().getAdditionalCommands());
+        commands.putAll(new AddHasLaunchApp().getAdditionalCommands());
+    }
+
+    /**
+     * A Chromium session over any command executor; ChromiumDriver only exposes this constructor to subclasses.
+     */
+    private static final class ChromiumSession extends ChromiumDriver {
+        ChromiumSession(CommandExecutor executor, Capabilities options, String capabilityKey) {
+            super(executor, options, capabilityKey);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.selenium.framework.browser;
+
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Small pool of long-lived driver service processes (chromedriver, geckodriver, msedgedriver) shared by all sessions.
+ * Sessions are opened against a running service through their own command executor, so quitting a session leaves
+ * the service up. Sessions keep the browser-specific commands of the local drivers, see {@link BrowserSessions}.
+ * <p>
+ * Services are assigned round-robin. Every assignment checks all services, a dead one is restarted in the background
+ * and skipped while another service is available. Services are started outside the pool's lock, so a slow Selenium
+ * Manager lookup or process start only holds up the sessions waiting for that service.
+ * </p>
+ */
+public class DriverServicePool {
+    private static final Logger log = LoggerFactory.getLogger(DriverServicePool.class);
+
+    private final String browserName;
+    // Guarded by this; null for a slot that has no service yet
+    private final List<CompletableFuture<DriverService>> services;
+    private final HttpClient.Factory httpClientFactory;
+    private final Object binariesLock = new Object();
+    private volatile BrowserSessions.Binaries binaries;
+    private int nextService;
+    private boolean shutdown;
+
+    /**
+     * @param browserName Browser of the pooled services
+     * @param size Number of services
+     * @param httpClientFactory Factory of the HTTP clients for the sessions' command traffic
+     */
+    public DriverServicePool(String browserName, int size, HttpClient.Factory httpClientFactory) {
+        this.browserName = browserName;
+        this.services = new ArrayList<>(Collections.nCopies(Math.max(1, size), null));
+        this.httpClientFactory = httpClientFactory;
+    }
+
+    /**
+     * Opens a new browser session on one of the pooled services.
+     *
+     * @param options Browser options of the session
+     * @param clientConfig HTTP client configuration for the session's command traffic
+     * @return The raw (undecorated) WebDriver of the new session
+     */
+    public WebDriver newSession(MutableCapabilities options, ClientConfig clientConfig) {
+        DriverService service = awaitService(assignService(options), options);
+
+        // Same as the local drivers do: a browser resolved by Selenium Manager replaces the requested version
+        BrowserSessions.useBrowser(options, binaries);
+
+        HttpCommandExecutor executor = new HttpCommandExecutor(BrowserSessions.additionalCommands(browserName),
+                clientConfig.baseUrl(service.getUrl()), httpClientFactory);
+        return BrowserSessions.open(browserName, executor, options);
+    }
+
+    /**
+     * Stops all services of the pool. Services still starting are stopped once they are up.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        for (int i = 0; i < services.size(); i++) {
+            if (services.get(i) != null) {
+                services.get(i).thenAccept(this::stopQuietly);
+                services.set(i, null);
+            }
+        }
+        log.debug("Shared '{}' driver services stopped", browserName);
+    }
+
+    /**
+     * A service the caller has to start itself, or one that is running or being started.
+     */
+    private record Assignment(int slot, CompletableFuture<DriverService> service, boolean start) {
+    }
+
+    private synchronized Assignment assignService(MutableCapabilities options) {
+        if (shutdown) {
+            throw new SessionNotCreatedException("Shared driver services for browser " + browserName + " are shut down");
+        }
+        // Notice dead services on any assignment, not only when their slot comes round
+        int restarting = -1;
+        for (int slot = 0; slot < services.size(); slot++) {
+            if (services.get(slot) != null && isDead(slot)) {
+                CompletableFuture<DriverService> restarted = new CompletableFuture<>();
+                services.set(slot, restarted);
+                int restartedSlot = slot;
+                Thread.ofVirtual().name("driver-service-" + browserName + "-" + slot).start(() -> start(restartedSlot, restarted, options));
+                restarting = slot;
+            }
+        }
+
+        for (int attempt = 0; attempt < services.size(); attempt++) {
+            int slot = nextService;
+            nextService = (nextService + 1) % services.size();
+            CompletableFuture<DriverService> service = services.get(slot);
+            if (service == null) {
+                service = new CompletableFuture<>();
+                services.set(slot, service);
+                return new Assignment(slot, service, true);
+            }
+            if (service.isDone()) {
+                return new Assignment(slot, service, false);
+            }
+        }
+        // Every service is starting: wait for one, preferably not one that just died
+        int slot = restarting >= 0 && services.size() > 1 ? (restarting + 1) % services.size() : nextService;
+        return new Assignment(slot, services.get(slot), false);
+    }
+
+    private boolean isDead(int slot) {
+        CompletableFuture<DriverService> service = services.get(slot);
+        if (!service.isDone()) {
+            return false;
+        }
+        if (service.isCompletedExceptionally()) {
+            return true;
+        }
+        DriverService running = service.join();
+        if (running.isRunning()) {
+            return false;
+        }
+        log.warn("Shared '{}' driver service #{} is not running anymore. Restarting it.", browserName, slot);
+        stopQuietly(running);
+        return true;
+    }
+
+    private DriverService awaitService(Assignment assignment, MutableCapabilities options) {
+        if (assignment.start()) {
+            start(assignment.slot(), assignment.service(), options);
+        }
+        try {
+            return assignment.service().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void start(int slot, CompletableFuture<DriverService> future, MutableCapabilities options) {
+        try {
+            DriverService service = BrowserSessions.createService(browserName);
+            service.setExecutable(binaries(service, options).driverPath());
+            service.start();
+            log.debug("Started shared '{}' driver service #{} at {}", browserName, slot, service.getUrl());
+            future.complete(service);
+        } catch (IOException e) {
+            future.completeExceptionally(new SessionNotCreatedException("Failed to start shared driver service for browser: " + browserName, e));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        synchronized (this) {
+            if (shutdown) {
+                future.thenAccept(this::stopQuietly);
+            }
+        }
+    }
+
+    /**
+     * The binaries of the pooled services, resolved by Selenium Manager once for all of them.
+     */
+    private BrowserSessions.Binaries binaries(DriverService service, MutableCapabilities options) {
+        BrowserSessions.Binaries resolved = binaries;
+        if (resolved == null) {
+            synchronized (binariesLock) {
+                resolved = binaries;
+                if (resolved == null) {
+                    resolved = BrowserSessions.findBinaries(service, options);
+                    binaries = resolved;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private void stopQuietly(DriverService service) {
+        try {
+            service.stop();
+        } catch (Exception e) {
+            log.debug("Failed to stop '{}' driver service", browserName, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.selenium.framework.browser;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Command executor owning the driver service of a single session, like Selenium's DriverCommandExecutor: the
+ * service is started with the session and stopped when the session quits or fails to start. Unlike
+ * DriverCommandExecutor it takes the HTTP client factory for the session's command traffic.
+ */
+class ServiceCommandExecutor extends HttpCommandExecutor implements Closeable {
+    private final DriverService service;
+
+    ServiceCommandExecutor(DriverService service, Map<String, CommandInfo> additionalCommands, ClientConfig clientConfig,
+                           HttpClient.Factory httpClientFactory) {
+        super(additionalCommands, clientConfig.baseUrl(service.getUrl()), httpClientFactory);
+        this.service = service;
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        boolean newSession = DriverCommand.NEW_SESSION.equals(command.getName());
+        boolean quit = DriverCommand.QUIT.equals(command.getName());
+        if (newSession) {
+            service.start();
+        }
+        try {
+            Response response = super.execute(command);
+            if (quit) {
+                close();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (newSession || quit) {
+                close();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        service.stop();
+    }
+}
@@ -1,18 +1,31 @@
 package org.example.selenium.framework.browser;
 
-import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.browser.http.PooledHttpClientFactory;
+import org.example.selenium.framework.config.ExecutionConfig;
+import org.example.selenium.framework.config.InstrumentationLevel;
+import org.example.selenium.framework.config.LiveConfig;
+import org.example.selenium.framework.jfr.SessionCreationEvent;
+import org.example.selenium.framework.listener.InstrumentedWebDriver;
 import org.example.selenium.framework.listener.LoggingWebDriverListner;
 import org.example.selenium.framework.listener.PerformanceWebDriverListener;
-import org.example.selenium.framework.timing.DefaultTimingService;
+import org.example.selenium.framework.metrics.RunMetrics;
 import org.example.selenium.framework.timing.TimingService;
+import org.example.selenium.framework.timing.TimingServiceFactory;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 import org.openqa.selenium.support.events.EventFiringDecorator;
@@ -21,11 +34,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class WebdriverFactory {
 
     private static final Logger log = LoggerFactory.getLogger(WebdriverFactory.class);
+    private static final ConcurrentMap<String, DriverServicePool> SERVICE_POOLS = new ConcurrentHashMap<>();
+    // Handed to the command executors of the sessions, Selenium's global client selection is left alone
+    private static final HttpClient.Factory HTTP_CLIENT_FACTORY = LiveConfig.INSTANCE.get().transport().pooled()
+            ? new PooledHttpClientFactory() : HttpCommandExecutor.getDefaultClientFactory();
 
     /**
      * Creates a WebDriver instance based on configuration settings.
@@ -34,58 +54,105 @@ public class WebdriverFactory {
      * @return Configured WebDriver instance
      */
     public static DriverAndListeners createDriver() {
-        String browserName = FrameworkConfig.INSTANCE.getConfig("browser", "chrome");
-        String browserVersion = FrameworkConfig.INSTANCE.getConfig("browser.version", "latest");
-        boolean headless = FrameworkConfig.INSTANCE.getConfigAsBoolean("browser.headless");
-        String viewport = FrameworkConfig.INSTANCE.getConfig("viewport", "desktop.medium");
-        int timeout = FrameworkConfig.INSTANCE.getConfigAsInt("execution.timeout", 30);
+        long startNanos = System.nanoTime();
+        SessionCreationEvent sessionCreationEvent = new SessionCreationEvent();
+        sessionCreationEvent.begin();
+        try {
+            DriverAndListeners driverAndListeners = createConfiguredDriver();
+            RunMetrics.INSTANCE.recordDriverStartup(System.nanoTime() - startNanos, true);
+            commitSessionCreation(sessionCreationEvent, true);
+            return driverAndListeners;
+        } catch (RuntimeException e) {
+            RunMetrics.INSTANCE.recordDriverStartup(System.nanoTime() - startNanos, false);
+            commitSessionCreation(sessionCreationEvent, false);
+            throw e;
+        }
+    }
+
+    private static void commitSessionCreation(SessionCreationEvent event, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.browser = LiveConfig.INSTANCE.get().browser();
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    private static DriverAndListeners createConfiguredDriver() {
+        // One snapshot for the whole session, the timeouts may be reloaded while it is created
+        ExecutionConfig config = LiveConfig.INSTANCE.get();
+        String browserName = config.browser();
+        String browserVersion = config.browserVersion();
+        boolean headless = config.headless();
+        ExecutionConfig.Viewport viewport = config.viewport();
+        Duration timeout = config.timeout();
         MutableCapabilities commonCapabilities = new MutableCapabilities();
         commonCapabilities.setCapability(CapabilityType.BROWSER_VERSION, browserVersion);
+        ExecutionConfig.Transport transport = config.transport();
+        ClientConfig clientConfig = createClientConfig(transport);
 
         log.debug("Creating a new '{}' (Version: {}) WebDriver instance. Headless: {}, Viewport: {}",
                 browserName, browserVersion, headless, viewport);
 
         // Create the WebDriver instance based on browser type
-        WebDriver rawDriver = switch (browserName.toLowerCase()) {
-            case "chrome" -> createChromeDriver(headless, commonCapabilities);
-            case "firefox" -> createFirefoxDriver(headless, commonCapabilities);
-            case "edge" -> createEdgeDriver(headless, commonCapabilities);
+        WebDriver rawDriver = switch (browserName) {
+            case "chrome" -> createChromeDriver(headless, commonCapabilities, transport, clientConfig);
+            case "firefox" -> createFirefoxDriver(headless, commonCapabilities, transport, clientConfig);
+            case "edge" -> createEdgeDriver(headless, commonCapabilities, transport, clientConfig);
             case "safari" -> createSafariDriver(commonCapabilities);
             default -> throw new IllegalArgumentException("Unsupported browser specified: " + browserName);
         };
 
         // Create shared timing service
-        TimingService timingService = new DefaultTimingService();
+        TimingService timingService = TimingServiceFactory.createTimingService();
         
-        // Create listeners with timing service
-        PerformanceWebDriverListener performanceWebDriverListener = new PerformanceWebDriverListener(timingService);
-        LoggingWebDriverListner loggingWebDriverListner = new LoggingWebDriverListner();
-        List<WebDriverListener> listeners = List.of(performanceWebDriverListener, loggingWebDriverListner);
-        WebDriver driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(rawDriver);
+        // Instrument the driver according to the configured level
+        InstrumentationLevel instrumentationLevel = config.instrumentationLevel();
+        List<WebDriverListener> listeners = createListeners(instrumentationLevel, timingService);
+        WebDriver driver = switch (instrumentationLevel) {
+            case OFF -> rawDriver;
+            case SUMMARY -> new InstrumentedWebDriver(rawDriver, timingService);
+            case FULL -> new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(rawDriver);
+        };
 
         // Set timeouts
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(timeout));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(timeout));
+        driver.manage().timeouts().pageLoadTimeout(timeout);
+        driver.manage().timeouts().scriptTimeout(timeout);
 
         // to open browser in top-left corner of the screen
         driver.manage().window().setPosition(new Point(0, 0));
 
         // Set the viewport size
-        Dimension viewportSize = getViewportSize(viewport);
-        driver.manage().window().setSize(viewportSize);
-        log.debug("Set viewport size to: {}x{}", viewportSize.getWidth(), viewportSize.getHeight());
+        driver.manage().window().setSize(new Dimension(viewport.width(), viewport.height()));
+        log.debug("Set viewport size to: {}x{}", viewport.width(), viewport.height());
 
         // Create wrapper with timing service
-        WebdriverWrapper wrapper = new WebdriverWrapper(driver, Duration.ofSeconds(timeout), timingService);
+        WebdriverWrapper wrapper = new WebdriverWrapper(driver, timeout, timingService);
         
         return new DriverAndListeners(wrapper, listeners, timingService);
     }
 
+    /**
+     * Creates the event firing listeners for the given instrumentation level.
+     * Only the FULL level uses listeners; the logging listener is left out unless trace logging is enabled.
+     */
+    private static List<WebDriverListener> createListeners(InstrumentationLevel instrumentationLevel, TimingService timingService) {
+        if (instrumentationLevel != InstrumentationLevel.FULL) {
+            return List.of();
+        }
+        List<WebDriverListener> listeners = new ArrayList<>();
+        listeners.add(new PerformanceWebDriverListener(timingService));
+        if (LoggingWebDriverListner.isEnabled()) {
+            listeners.add(new LoggingWebDriverListner());
+        }
+        return List.copyOf(listeners);
+    }
+
     /**
      * Creates a Chrome WebDriver with specified options.
      * Supported versions include "STABLE", "BETA", "DEV", "NIGHTLY" and versions form 115.
      */
-    private static WebDriver createChromeDriver(boolean headless, MutableCapabilities commonCapabilities) {
+    private static WebDriver createChromeDriver(boolean headless, MutableCapabilities commonCapabilities, ExecutionConfig.Transport transport, ClientConfig clientConfig) {
         ChromeOptions options = new ChromeOptions();
 
         // Configure headless mode
@@ -97,13 +164,19 @@ public class WebdriverFactory {
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-notifications");
 
-        return new ChromeDriver(options.merge(commonCapabilities));
+        if (transport.sharedServices()) {
+            return servicePool("chrome", transport).newSession(options.merge(commonCapabilities), clientConfig);
+        }
+        if (transport.pooled()) {
+            return createServiceSession("chrome", options.merge(commonCapabilities), clientConfig);
+        }
+        return new ChromeDriver(ChromeDriverService.createDefaultService(), options.merge(commonCapabilities), clientConfig);
     }
 
     /**
      * Creates a Firefox WebDriver with specified options.
      */
-    private static WebDriver createFirefoxDriver(boolean headless, MutableCapabilities commonCapabilities) {
+    private static WebDriver createFirefoxDriver(boolean headless, MutableCapabilities commonCapabilities, ExecutionConfig.Transport transport, ClientConfig clientConfig) {
         FirefoxOptions options = new FirefoxOptions();
 
         // Configure headless mode
@@ -111,13 +184,19 @@ public class WebdriverFactory {
             options.addArguments("--headless");
         }
 
-        return new FirefoxDriver(options.merge(commonCapabilities));
+        if (transport.sharedServices()) {
+            return servicePool("firefox", transport).newSession(options.merge(commonCapabilities), clientConfig);
+        }
+        if (transport.pooled()) {
+            return createServiceSession("firefox", options.merge(commonCapabilities), clientConfig);
+        }
+        return new FirefoxDriver(GeckoDriverService.createDefaultService(), options.merge(commonCapabilities), clientConfig);
     }
 
     /**
      * Creates an Edge WebDriver with specified options.
      */
-    private static WebDriver createEdgeDriver(boolean headless, MutableCapabilities commonCapabilities) {
+    private static WebDriver createEdgeDriver(boolean headless, MutableCapabilities commonCapabilities, ExecutionConfig.Transport transport, ClientConfig clientConfig) {
         EdgeOptions options = new EdgeOptions();
 
         // Configure headless mode
@@ -125,7 +204,32 @@ public class WebdriverFactory {
             options.addArguments("--headless");
         }
 
-        return new EdgeDriver(options.merge(commonCapabilities));
+        if (transport.sharedServices()) {
+            return servicePool("edge", transport).newSession(options.merge(commonCapabilities), clientConfig);
+        }
+        if (transport.pooled()) {
+            return createServiceSession("edge", options.merge(commonCapabilities), clientConfig);
+        }
+        return new EdgeDriver(EdgeDriverService.createDefaultService(), options.merge(commonCapabilities), clientConfig);
+    }
+
+    /**
+     * Creates a session on its own driver service, like the local drivers do, but with the pooled HTTP transport.
+     * The service is stopped when the session quits.
+     */
+    private static WebDriver createServiceSession(String browserName, MutableCapabilities options, ClientConfig clientConfig) {
+        DriverService service = BrowserSessions.createService(browserName);
+        BrowserSessions.Binaries binaries = BrowserSessions.findBinaries(service, options);
+        service.setExecutable(binaries.driverPath());
+        BrowserSessions.useBrowser(options, binaries);
+
+        ServiceCommandExecutor executor = new ServiceCommandExecutor(service, BrowserSessions.additionalCommands(browserName), clientConfig, HTTP_CLIENT_FACTORY);
+        try {
+            return BrowserSessions.open(browserName, executor, options);
+        } catch (RuntimeException e) {
+            executor.close();
+            throw e;
+        }
     }
 
     /**
@@ -144,49 +248,27 @@ public class WebdriverFactory {
     }
 
     /**
-     * Returns a Dimension object representing the viewport size based on the provided viewport name.
-     * Supports predefined viewport sizes and custom dimensions.
-     *
-     * @param viewport The viewport name or custom dimensions
-     * @return Dimension object with the specified width and height
+     * Creates the HTTP client configuration used for the command traffic between the framework and the driver.
+     * The pooled transport applies these timeouts per session; the connection pool itself is configured by PooledHttpClientFactory.
      */
-    private static Dimension getViewportSize(String viewport) {
-        // Check if custom viewport dimensions are provided in config
-        String customWidth = FrameworkConfig.INSTANCE.getConfig("viewport.width");
-        String customHeight = FrameworkConfig.INSTANCE.getConfig("viewport.height");
-
-        if (customWidth != null && customHeight != null) {
-            try {
-                int width = Integer.parseInt(customWidth);
-                int height = Integer.parseInt(customHeight);
-                return new Dimension(width, height);
-            } catch (NumberFormatException e) {
-                log.warn("Invalid custom viewport dimensions. Using predefined viewport instead.");
-            }
-        }
-
-        return switch (viewport.toLowerCase()) {
-            // Mobile viewports
-            case "mobile.small" -> new Dimension(375, 667);    // iPhone 8
-            case "mobile.medium" -> new Dimension(390, 844);   // iPhone 12/13
-            case "mobile.large" -> new Dimension(428, 926);    // iPhone 13 Pro Max
-
-            // Tablet viewports
-            case "tablet.small" -> new Dimension(768, 1024);   // iPad Mini
-            case "tablet.medium" -> new Dimension(834, 1112);  // iPad Air
-            case "tablet.large" -> new Dimension(1024, 1366);  // iPad Pro
-
-            // Desktop viewports
-            case "desktop.small" -> new Dimension(1024, 768);  // Small laptop
-            case "desktop.medium" -> new Dimension(1280, 800); // Medium laptop
-            case "desktop.large" -> new Dimension(1920, 1080); // Large desktop
-
-            // Default size
-            default -> {
-                log.warn("Unknown viewport: {}. Using desktop.medium as default.", viewport);
-                yield new Dimension(1280, 800);
-            }
-        };
+    private static ClientConfig createClientConfig(ExecutionConfig.Transport transport) {
+        return ClientConfig.defaultConfig()
+                .connectionTimeout(transport.connectTimeout())
+                .readTimeout(transport.readTimeout());
+    }
+
+    /**
+     * Releases resources shared by all sessions of the run.
+     * Should be called once all drivers have been quit.
+     */
+    public static void shutdown() {
+        SERVICE_POOLS.values().forEach(DriverServicePool::shutdown);
+        SERVICE_POOLS.clear();
+        PooledHttpClientFactory.shutdown();
+    }
+
+    private static DriverServicePool servicePool(String browserName, ExecutionConfig.Transport transport) {
+        return SERVICE_POOLS.computeIfAbsent(browserName, name -> new DriverServicePool(name, transport.servicePoolSize(), HTTP_CLIENT_FACTORY));
     }
 
     public static class DriverAndListeners {
@@ -10,7 +10,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
-public class WebdriverWrapper implements WebDriver {
+public class WebdriverWrapper implements WebDriver, JavascriptExecutor, TakesScreenshot, WrapsDriver {
     private final WebDriver driver;
     private final Duration defaultTimeout;
     private static final Duration DEFAULT_POLLING_INTERVAL = Duration.ofMillis(500);
@@ -136,4 +136,24 @@ public class WebdriverWrapper implements WebDriver {
         return driver.manage();
     }
 
+    @Override
+    public @Nullable Object executeScript(String script, @Nullable Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    @Override
+    public @Nullable Object executeAsyncScript(String script, @Nullable Object... args) {
+        return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return ((TakesScreenshot) driver).getScreenshotAs(target);
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
 }
@@ -0,0 +1,147 @@
+package org.example.selenium.framework.browser.http;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
+import org.example.selenium.framework.timing.TransportTimings;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Selenium HTTP client bound to one driver endpoint that sends commands over the shared connection pool.
+ * Every round trip is added to {@link TransportTimings} so timed actions can report their transport share.
+ * Connect and read timeouts are taken from the session's {@link ClientConfig}. WebSockets (BiDi/CDP) are
+ * delegated to Selenium's default JDK client.
+ */
+public class PooledHttpClient implements HttpClient {
+    private static final String DEFAULT_CLIENT = "jdk-http-client";
+
+    private final CloseableHttpClient client;
+    private final ClientConfig config;
+    private final RequestConfig requestConfig;
+    private HttpClient nativeClient;
+
+    @SuppressWarnings("deprecation")
+    public PooledHttpClient(CloseableHttpClient client, ClientConfig config) {
+        this.client = client;
+        this.config = config;
+        // The pool is shared by sessions with different configurations, so the connect timeout is set per request
+        this.requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(config.connectionTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(config.readTimeout().toMillis()))
+                .build();
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            return client.execute(toApacheRequest(request), this::toSeleniumResponse);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            TransportTimings.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+        return nativeClient().openSocket(request, listener);
+    }
+
+    @Override
+    public synchronized void close() {
+        // The connection pool is shared by all sessions and closed by PooledHttpClientFactory.shutdown()
+        if (nativeClient != null) {
+            nativeClient.close();
+            nativeClient = null;
+        }
+    }
+
+    private synchronized HttpClient nativeClient() {
+        if (nativeClient == null) {
+            nativeClient = HttpClient.Factory.create(DEFAULT_CLIENT).createClient(config);
+        }
+        return nativeClient;
+    }
+
+    private HttpUriRequestBase toApacheRequest(HttpRequest request) {
+        HttpUriRequestBase apacheRequest = new HttpUriRequestBase(request.getMethod().name(), buildUri(request));
+        apacheRequest.setConfig(requestConfig);
+
+        String contentType = null;
+        for (String name : request.getHeaderNames()) {
+            // Content-Length is derived from the entity by HttpClient and must not be set twice
+            if ("Content-Length".equalsIgnoreCase(name)) {
+                continue;
+            }
+            for (String value : request.getHeaders(name)) {
+                if ("Content-Type".equalsIgnoreCase(name)) {
+                    contentType = value;
+                }
+                apacheRequest.addHeader(name, value);
+            }
+        }
+
+        if (request.getMethod() == HttpMethod.POST || request.getMethod() == HttpMethod.PUT) {
+            byte[] body = Contents.bytes(request.getContent());
+            apacheRequest.setEntity(new ByteArrayEntity(body,
+                    contentType != null ? ContentType.parse(contentType) : ContentType.APPLICATION_JSON));
+        }
+        return apacheRequest;
+    }
+
+    private HttpResponse toSeleniumResponse(ClassicHttpResponse response) throws IOException {
+        HttpResponse seleniumResponse = new HttpResponse();
+        seleniumResponse.setStatus(response.getCode());
+        for (Header header : response.getHeaders()) {
+            seleniumResponse.addHeader(header.getName(), header.getValue());
+        }
+
+        HttpEntity entity = response.getEntity();
+        byte[] body = entity != null ? EntityUtils.toByteArray(entity) : new byte[0];
+        seleniumResponse.setContent(Contents.bytes(body));
+        return seleniumResponse;
+    }
+
+    private URI buildUri(HttpRequest request) {
+        String uri = request.getUri();
+        StringBuilder rawUri = new StringBuilder();
+        if (uri.startsWith("http:") || uri.startsWith("https:")) {
+            rawUri.append(uri);
+        } else {
+            rawUri.append(config.baseUri().toString().replaceAll("/$", ""));
+            rawUri.append(uri.startsWith("/") ? uri : "/" + uri);
+        }
+
+        char separator = '?';
+        for (String name : request.getQueryParameterNames()) {
+            for (String value : request.getQueryParameters(name)) {
+                rawUri.append(separator)
+                        .append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return URI.create(rawUri.toString());
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.selenium.framework.browser.http;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpClientName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selenium HTTP client factory backed by a single, pooled Apache HttpClient 5 instance.
+ * All driver sessions of a run share the same keep-alive connection pool instead of each
+ * session building its own client. The framework passes the factory to the command executors of its sessions;
+ * it is also registered with {@link java.util.ServiceLoader}, so it can be selected by name elsewhere.
+ * Timeouts come from the {@link ClientConfig} of each client, the factory only configures the pool.
+ */
+@HttpClientName(PooledHttpClientFactory.NAME)
+public class PooledHttpClientFactory implements HttpClient.Factory {
+    public static final String NAME = "pooled-httpclient5";
+
+    private static final Logger log = LoggerFactory.getLogger(PooledHttpClientFactory.class);
+    private static CloseableHttpClient sharedClient;
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        return new PooledHttpClient(sharedClient(), config);
+    }
+
+    /**
+     * Close the shared connection pool. Subsequent sessions will lazily create a new one.
+     */
+    public static synchronized void shutdown() {
+        if (sharedClient != null) {
+            sharedClient.close(CloseMode.GRACEFUL);
+            sharedClient = null;
+            log.debug("Shared HTTP transport closed");
+        }
+    }
+
+    private static synchronized CloseableHttpClient sharedClient() {
+        if (sharedClient == null) {
+            sharedClient = createSharedClient();
+        }
+        return sharedClient;
+    }
+
+    private static CloseableHttpClient createSharedClient() {
+        int maxConnections = FrameworkConfig.INSTANCE.getConfigAsInt("http.maxConnections", 64);
+        int maxConnectionsPerRoute = FrameworkConfig.INSTANCE.getConfigAsInt("http.maxConnectionsPerRoute", 16);
+        int keepAlive = FrameworkConfig.INSTANCE.getConfigAsInt("http.keepAlive", 60);
+
+        log.debug("Creating shared HTTP transport. Max connections: {}, per route: {}, keep-alive: {}s",
+                maxConnections, maxConnectionsPerRoute, keepAlive);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                        .build())
+                .build();
+
+        // Driver commands are not safe to replay blindly, and cookies are never used by the wire protocol
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAlive))
+                .evictIdleConnections(TimeValue.ofSeconds(keepAlive))
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .build();
+    }
+}
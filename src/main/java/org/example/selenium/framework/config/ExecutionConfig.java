@@ -0,0 +1,180 @@
+package org.example.selenium.framework.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Typed, immutable snapshot of the settings that drive test execution: browser, viewport, timeouts, concurrency,
+ * instrumentation and the driver transport. Values are parsed and validated once, when the snapshot is created, so sessions don't re-read and
+ * re-parse the string configuration and a misconfiguration fails the run before the first test starts.
+ * The current snapshot is held by {@link LiveConfig}.
+ *
+ * @param browser Browser name in lower case: chrome, firefox, edge or safari
+ * @param browserVersion Requested browser version
+ * @param headless Whether browsers run headless
+ * @param viewport Window size of new sessions
+ * @param timeout Page load, script and wait timeout of new sessions
+ * @param threadCount Maximum number of concurrent browser sessions
+ * @param instrumentationLevel How much of the driver traffic is instrumented
+ * @param transport HTTP transport and driver services of the sessions
+ */
+public record ExecutionConfig(String browser, String browserVersion, boolean headless, Viewport viewport, Duration timeout, int threadCount,
+                              InstrumentationLevel instrumentationLevel, Transport transport) {
+    private static final Set<String> BROWSERS = Set.of("chrome", "firefox", "edge", "safari");
+    private static final Map<String, Viewport> VIEWPORTS = Map.of(
+            // Mobile viewports
+            "mobile.small", new Viewport("mobile.small", 375, 667),     // iPhone 8
+            "mobile.medium", new Viewport("mobile.medium", 390, 844),   // iPhone 12/13
+            "mobile.large", new Viewport("mobile.large", 428, 926),     // iPhone 13 Pro Max
+            // Tablet viewports
+            "tablet.small", new Viewport("tablet.small", 768, 1024),    // iPad Mini
+            "tablet.medium", new Viewport("tablet.medium", 834, 1112),  // iPad Air
+            "tablet.large", new Viewport("tablet.large", 1024, 1366),   // iPad Pro
+            // Desktop viewports
+            "desktop.small", new Viewport("desktop.small", 1024, 768),  // Small laptop
+            "desktop.medium", new Viewport("desktop.medium", 1280, 800), // Medium laptop
+            "desktop.large", new Viewport("desktop.large", 1920, 1080)  // Large desktop
+    );
+
+    /**
+     * A browser window size, either predefined by name or custom.
+     */
+    public record Viewport(String name, int width, int height) {
+        @Override
+        public String toString() {
+            return name + " (" + width + "x" + height + ")";
+        }
+    }
+
+    /**
+     * How sessions talk to their drivers.
+     *
+     * @param pooled Whether driver commands of all sessions share one pooled keep-alive HTTP transport
+     * @param sharedServices Whether sessions are opened against shared, long-lived driver services
+     * @param servicePoolSize Number of shared driver services per browser
+     * @param connectTimeout Connect timeout of driver commands
+     * @param readTimeout Read timeout of driver commands
+     */
+    public record Transport(boolean pooled, boolean sharedServices, int servicePoolSize, Duration connectTimeout, Duration readTimeout) {
+    }
+
+    /**
+     * Create a snapshot of the framework configuration.
+     *
+     * @return The snapshot
+     * @throws IllegalArgumentException If any setting is invalid, listing all invalid settings
+     */
+    public static ExecutionConfig fromConfig() {
+        return parse(FrameworkConfig.INSTANCE::getConfig);
+    }
+
+    /**
+     * Create a snapshot from configuration values.
+     *
+     * @param config Returns the value of a configuration key, null if it is not set
+     * @return The snapshot
+     * @throws IllegalArgumentException If any setting is invalid, listing all invalid settings
+     */
+    public static ExecutionConfig parse(UnaryOperator<String> config) {
+        List<String> problems = new ArrayList<>();
+
+        String browser = valueOrDefault(config.apply("browser"), "chrome").strip().toLowerCase();
+        if (!BROWSERS.contains(browser)) {
+            problems.add("browser: unsupported browser '" + browser + "', use one of " + BROWSERS.stream().sorted().toList());
+        }
+        String browserVersion = valueOrDefault(config.apply("browser.version"), "latest").strip();
+        boolean headless = Boolean.parseBoolean(config.apply("browser.headless"));
+        Viewport viewport = parseViewport(config, problems);
+        int timeoutSeconds = parsePositiveInt(config, "execution.timeout", 30, problems);
+        int threadCount = parsePositiveInt(config, "execution.threadCount", Math.max(1, Runtime.getRuntime().availableProcessors() / 2), problems);
+        InstrumentationLevel instrumentationLevel = parseInstrumentationLevel(config, problems);
+        Transport transport = new Transport(
+                Boolean.parseBoolean(config.apply("http.pooled")),
+                Boolean.parseBoolean(config.apply("driver.service.shared")),
+                parsePositiveInt(config, "driver.service.poolSize", 1, problems),
+                Duration.ofSeconds(parsePositiveInt(config, "http.connectTimeout", 10, problems)),
+                Duration.ofSeconds(parsePositiveInt(config, "http.readTimeout", 180, problems)));
+
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Invalid configuration:\n  " + String.join("\n  ", problems));
+        }
+        return new ExecutionConfig(browser, browserVersion, headless, viewport, Duration.ofSeconds(timeoutSeconds), threadCount,
+                instrumentationLevel, transport);
+    }
+
+    /**
+     * This snapshot with the settings that can change while tests run, concurrency and timeouts, taken from
+     * another snapshot. Browser, viewport, instrumentation and transport stay as they are, sessions of one run use
+     * the same ones.
+     *
+     * @param reloaded The reloaded snapshot
+     * @return The updated snapshot
+     */
+    public ExecutionConfig withReloadable(ExecutionConfig reloaded) {
+        return new ExecutionConfig(browser, browserVersion, headless, viewport, reloaded.timeout(), reloaded.threadCount(),
+                instrumentationLevel, transport);
+    }
+
+    private static Viewport parseViewport(UnaryOperator<String> config, List<String> problems) {
+        String customWidth = config.apply("viewport.width");
+        String customHeight = config.apply("viewport.height");
+        if (customWidth != null && customHeight != null) {
+            try {
+                int width = Integer.parseInt(customWidth.strip());
+                int height = Integer.parseInt(customHeight.strip());
+                if (width > 0 && height > 0) {
+                    return new Viewport("custom", width, height);
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            problems.add("viewport.width/viewport.height: '" + customWidth + "x" + customHeight + "' is not a positive size");
+            return null;
+        }
+
+        String name = valueOrDefault(config.apply("viewport"), "desktop.medium").strip().toLowerCase();
+        Viewport viewport = VIEWPORTS.get(name);
+        if (viewport == null) {
+            problems.add("viewport: unknown viewport '" + name + "', use one of " + VIEWPORTS.keySet().stream().sorted().toList()
+                    + " or set viewport.width and viewport.height");
+        }
+        return viewport;
+    }
+
+    private static InstrumentationLevel parseInstrumentationLevel(UnaryOperator<String> config, List<String> problems) {
+        String level = valueOrDefault(config.apply("instrumentation.level"), "full").strip();
+        try {
+            return InstrumentationLevel.valueOf(level.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            problems.add("instrumentation.level: unsupported level '" + level + "', use one of " + Arrays.stream(InstrumentationLevel.values())
+                    .map(value -> value.name().toLowerCase()).toList());
+            return InstrumentationLevel.FULL;
+        }
+    }
+
+    private static int parsePositiveInt(UnaryOperator<String> config, String key, int defaultValue, List<String> problems) {
+        String value = config.apply(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.strip());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        problems.add(key + ": '" + value + "' is not a positive whole number");
+        return defaultValue;
+    }
+
+    private static String valueOrDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
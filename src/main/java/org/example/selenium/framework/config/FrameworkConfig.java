@@ -88,6 +88,14 @@ public enum FrameworkConfig {
         }
     }
 
+    public double getConfigAsDouble(String key, double defaultValue) {
+        try {
+            return Double.parseDouble(getConfig(key));
+        } catch (NumberFormatException | NullPointerException e) {
+            return defaultValue;
+        }
+    }
+
     public List<String> getConfigAsList(String key) {
         String value = getConfig(key, "");
         return value.isEmpty() ? Collections.emptyList() :
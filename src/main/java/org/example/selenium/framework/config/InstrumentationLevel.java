@@ -0,0 +1,21 @@
+package org.example.selenium.framework.config;
+
+/**
+ * How much of the driver traffic is instrumented, configured with {@code instrumentation.level} and read from
+ * {@link ExecutionConfig#instrumentationLevel()}.
+ */
+public enum InstrumentationLevel {
+    /**
+     * No per-command instrumentation. Only framework waits and assertions are timed.
+     */
+    OFF,
+    /**
+     * Navigation, find, click, send keys and get text are timed through a direct, non-reflective decorator.
+     * Targets are the element locators; typed keys and per-call logging are left out.
+     */
+    SUMMARY,
+    /**
+     * Every driver and element call goes through Selenium's event firing decorator and all listeners.
+     */
+    FULL
+}
@@ -0,0 +1,178 @@
+package org.example.selenium.framework.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Holds the current {@link ExecutionConfig} and optionally keeps it up to date with a properties file.
+ * <p>
+ * With config.reload.file set, the file is watched while tests run. When it changes, its values are applied over
+ * the framework configuration and the concurrency limit and timeouts of the new snapshot take effect: listeners,
+ * such as the test runner's session limiter, are notified, and sessions created from then on use the new
+ * timeouts. Browser and viewport are fixed for the run. A reloaded file with invalid settings is logged and
+ * ignored.
+ * </p>
+ */
+public enum LiveConfig {
+    INSTANCE;
+
+    private static final Logger log = LoggerFactory.getLogger(LiveConfig.class);
+    private final List<Consumer<ExecutionConfig>> listeners = new CopyOnWriteArrayList<>();
+    private volatile ExecutionConfig current;
+    private WatchService watchService;
+
+    /**
+     * The current snapshot. The first call parses and validates the framework configuration.
+     *
+     * @return The current snapshot
+     * @throws IllegalArgumentException If the configuration is invalid
+     */
+    public ExecutionConfig get() {
+        ExecutionConfig config = current;
+        if (config == null) {
+            synchronized (this) {
+                if (current == null) {
+                    current = ExecutionConfig.fromConfig();
+                    log.debug("Execution configuration: {}", current);
+                }
+                config = current;
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Register a listener for reloaded snapshots. Listeners are called on the watcher thread.
+     *
+     * @param listener Called with the new snapshot after every reload that changed it
+     */
+    public void addListener(Consumer<ExecutionConfig> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<ExecutionConfig> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Start watching config.reload.file, if it is configured. Does nothing if already watching.
+     */
+    public synchronized void startWatching() {
+        String reloadFile = FrameworkConfig.INSTANCE.getConfig("config.reload.file", "");
+        if (reloadFile.isBlank() || watchService != null) {
+            return;
+        }
+        Path file = Paths.get(reloadFile).toAbsolutePath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("Failed to watch {} for configuration changes. Continuing without reload.", file, e);
+            stopWatching();
+            return;
+        }
+        WatchService service = watchService;
+        Thread watcher = new Thread(() -> watch(service, file), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for changes of concurrency and timeouts", file);
+        // Apply the file as it is now, it may have been edited before the run started
+        reload(file);
+    }
+
+    /**
+     * Stop watching the reload file.
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to stop watching for configuration changes", e);
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service, Path file) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    reload(file);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reload(Path file) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+        } catch (IOException e) {
+            log.warn("Failed to read {}, keeping the current configuration", file, e);
+            return;
+        }
+
+        ExecutionConfig reloaded;
+        try {
+            reloaded = ExecutionConfig.parse(key -> properties.getProperty(key, FrameworkConfig.INSTANCE.getConfig(key)));
+        } catch (IllegalArgumentException e) {
+            log.error("Ignoring configuration change in {}: {}", file, e.getMessage());
+            return;
+        }
+
+        ExecutionConfig updated;
+        synchronized (this) {
+            ExecutionConfig previous = get();
+            updated = previous.withReloadable(reloaded);
+            if (!reloaded.withReloadable(previous).equals(previous)) {
+                log.warn("Only execution.threadCount and execution.timeout are applied while tests run, other changes in {} are ignored", file);
+            }
+            if (updated.equals(previous)) {
+                return;
+            }
+            current = updated;
+            log.info("Configuration reloaded: threadCount {} -> {}, timeout {}s -> {}s", previous.threadCount(), updated.threadCount(),
+                    previous.timeout().toSeconds(), updated.timeout().toSeconds());
+        }
+        for (Consumer<ExecutionConfig> listener : listeners) {
+            try {
+                listener.accept(updated);
+            } catch (RuntimeException e) {
+                log.error("Configuration listener failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.selenium.framework.core;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limit on the 95th percentile duration of one action type within a test, used in {@link PerfBudget#actions()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface ActionBudget {
+    String action();
+
+    long p95Millis();
+}
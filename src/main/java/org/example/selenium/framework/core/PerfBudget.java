@@ -0,0 +1,21 @@
+package org.example.selenium.framework.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Performance budget of a test, evaluated against its recorded actions after the test body has run.
+ * A limit of -1 falls back to the configured default ({@code perf.budget.*}), 0 disables the limit.
+ * On a class the budget applies to all its tests that don't declare their own.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface PerfBudget {
+    long maxTestMillis() default -1;
+
+    long maxNavigationMillis() default -1;
+
+    ActionBudget[] actions() default {};
+}
@@ -0,0 +1,150 @@
+package org.example.selenium.framework.core;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.listener.TestAction;
+import org.example.selenium.framework.results.BudgetViolation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the performance budget of a test against the actions it recorded.
+ * Limits come from {@link PerfBudget} on the test method or its class, falling back to the {@code perf.budget.*} configuration,
+ * which is read once when the evaluator is created.
+ */
+public class PerfBudgetEvaluator {
+    private static final String NAVIGATE = "Navigate to URL";
+    private final boolean failOnViolation;
+    private final long maxTestMillis;
+    private final long maxNavigationMillis;
+    private final Map<String, Long> actionBudgets;
+
+    /**
+     * @param failOnViolation Whether exceeding a budget fails the test
+     * @param maxTestMillis Default limit of the total test time, 0 for none
+     * @param maxNavigationMillis Default limit of every navigation, 0 for none
+     * @param actionBudgets Default p95 limits by action type
+     */
+    public PerfBudgetEvaluator(boolean failOnViolation, long maxTestMillis, long maxNavigationMillis, Map<String, Long> actionBudgets) {
+        this.failOnViolation = failOnViolation;
+        this.maxTestMillis = maxTestMillis;
+        this.maxNavigationMillis = maxNavigationMillis;
+        this.actionBudgets = Collections.unmodifiableMap(new LinkedHashMap<>(actionBudgets));
+    }
+
+    /**
+     * Create an evaluator with the perf.budget.* configuration.
+     *
+     * @throws IllegalArgumentException If perf.budget.actionP95Millis has an invalid entry
+     */
+    public static PerfBudgetEvaluator fromConfig() {
+        Map<String, Long> actionBudgets = new LinkedHashMap<>();
+        for (String entry : FrameworkConfig.INSTANCE.getConfigAsList("perf.budget.actionP95Millis")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid perf.budget.actionP95Millis entry, expected 'Action:millis': " + entry);
+            }
+            actionBudgets.put(entry.substring(0, separator).strip(), Long.parseLong(entry.substring(separator + 1).strip()));
+        }
+        return new PerfBudgetEvaluator(
+                FrameworkConfig.INSTANCE.getConfig("perf.budget.mode", "warn").equalsIgnoreCase("fail"),
+                FrameworkConfig.INSTANCE.getConfigAsInt("perf.budget.maxTestMillis", 0),
+                FrameworkConfig.INSTANCE.getConfigAsInt("perf.budget.maxNavigationMillis", 0),
+                actionBudgets);
+    }
+
+    /**
+     * Whether exceeding a budget fails the test instead of only reporting the violation.
+     *
+     * @return true if perf.budget.mode is fail
+     */
+    public boolean failOnViolation() {
+        return failOnViolation;
+    }
+
+    /**
+     * Evaluate the budget of a test.
+     *
+     * @param testMethod     The test method
+     * @param startTimestamp Start of the test in milliseconds
+     * @param endTimestamp   End of the test in milliseconds
+     * @param actions        The actions recorded by the test
+     * @return The exceeded limits, empty if the test is within budget
+     */
+    public List<BudgetViolation> evaluate(Method testMethod, long startTimestamp, long endTimestamp, List<TestAction> actions) {
+        PerfBudget budget = testMethod.isAnnotationPresent(PerfBudget.class)
+                ? testMethod.getAnnotation(PerfBudget.class)
+                : testMethod.getDeclaringClass().getAnnotation(PerfBudget.class);
+        List<BudgetViolation> violations = new ArrayList<>();
+
+        long testLimit = budget != null && budget.maxTestMillis() >= 0 ? budget.maxTestMillis() : maxTestMillis;
+        long testMillis = endTimestamp - startTimestamp;
+        if (testLimit > 0 && testMillis > testLimit) {
+            violations.add(new BudgetViolation("Total test time", testLimit, testMillis, List.of()));
+        }
+
+        Map<String, List<TestAction>> actionsByType = new LinkedHashMap<>();
+        for (TestAction action : actions) {
+            actionsByType.computeIfAbsent(action.type(), type -> new ArrayList<>()).add(action);
+        }
+
+        long navigationLimit = budget != null && budget.maxNavigationMillis() >= 0 ? budget.maxNavigationMillis() : maxNavigationMillis;
+        if (navigationLimit > 0) {
+            List<TestAction> slowNavigations = actionsByType.getOrDefault(NAVIGATE, List.of()).stream()
+                    .filter(action -> duration(action) > navigationLimit)
+                    .toList();
+            if (!slowNavigations.isEmpty()) {
+                long slowest = slowNavigations.stream().mapToLong(PerfBudgetEvaluator::duration).max().orElse(0);
+                violations.add(new BudgetViolation("Max " + NAVIGATE, navigationLimit, slowest, slowNavigations));
+            }
+        }
+
+        for (Map.Entry<String, Long> actionBudget : actionBudgets(budget).entrySet()) {
+            String actionType = actionBudget.getKey();
+            long limit = actionBudget.getValue();
+            List<TestAction> ofType = actionsByType.getOrDefault(actionType, List.of());
+            if (limit <= 0 || ofType.isEmpty()) {
+                continue;
+            }
+            long p95 = percentile95(ofType);
+            if (p95 > limit) {
+                List<TestAction> offending = ofType.stream()
+                        .filter(action -> duration(action) > limit)
+                        .toList();
+                violations.add(new BudgetViolation("p95 " + actionType, limit, p95, offending));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * The configured action budgets, overridden per action by the annotation.
+     */
+    private Map<String, Long> actionBudgets(PerfBudget budget) {
+        if (budget == null || budget.actions().length == 0) {
+            return actionBudgets;
+        }
+        Map<String, Long> budgets = new LinkedHashMap<>(actionBudgets);
+        for (ActionBudget actionBudget : budget.actions()) {
+            budgets.put(actionBudget.action(), actionBudget.p95Millis());
+        }
+        return budgets;
+    }
+
+    private static long duration(TestAction action) {
+        return action.endTimestamp() - action.startTimestamp();
+    }
+
+    /**
+     * Nearest-rank 95th percentile of the action durations.
+     */
+    private static long percentile95(List<TestAction> actions) {
+        long[] durations = actions.stream().mapToLong(PerfBudgetEvaluator::duration).sorted().toArray();
+        int rank = (int) Math.ceil(0.95 * durations.length);
+        return durations[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.selenium.framework.core;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * A semaphore whose number of permits can be changed while it is in use. Raising the limit releases the extra
+ * permits right away; lowering it withdraws permits, so holders of surplus permits finish what they are doing
+ * and new acquirers wait until the permits in use fall below the new limit.
+ */
+class ResizableSemaphore extends Semaphore {
+    private static final long serialVersionUID = 1L;
+    private int limit;
+
+    ResizableSemaphore(int limit) {
+        super(limit);
+        this.limit = limit;
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @param newLimit The new number of permits, at least 1
+     */
+    synchronized void setLimit(int newLimit) {
+        if (newLimit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1: " + newLimit);
+        }
+        int delta = newLimit - limit;
+        if (delta > 0) {
+            release(delta);
+        } else if (delta < 0) {
+            reducePermits(-delta);
+        }
+        limit = newLimit;
+    }
+}
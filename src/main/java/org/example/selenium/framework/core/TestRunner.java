@@ -4,22 +4,41 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import org.example.selenium.framework.assertions.AssertionFactory;
 import org.example.selenium.framework.browser.WebdriverFactory;
+import org.example.selenium.framework.config.ExecutionConfig;
 import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.config.LiveConfig;
+import org.example.selenium.framework.history.Regression;
+import org.example.selenium.framework.history.RegressionDetector;
+import org.example.selenium.framework.jfr.PermitWaitEvent;
+import org.example.selenium.framework.jfr.TestExecutionEvent;
 import org.example.selenium.framework.listener.TestAction;
-import org.example.selenium.framework.listener.PerformanceWebDriverListener;
 import org.example.selenium.framework.logging.LoggingManager;
+import org.example.selenium.framework.metrics.LatencySummary;
+import org.example.selenium.framework.metrics.MetricsHttpServer;
+import org.example.selenium.framework.metrics.RunMetrics;
 import org.example.selenium.framework.reports.ReportingService;
+import org.example.selenium.framework.results.BudgetViolation;
+import org.example.selenium.framework.results.ResultStore;
+import org.example.selenium.framework.results.ScreenshotRef;
+import org.example.selenium.framework.results.SchedulingTimeline;
+import org.example.selenium.framework.results.TestPhases;
 import org.example.selenium.framework.results.TestResult;
 import org.example.selenium.framework.results.TestRun;
 import org.example.selenium.framework.results.TestStatus;
+import org.example.selenium.framework.timing.Steps;
+import org.example.selenium.framework.visual.ScreenshotStore;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 public class TestRunner {
     static {
@@ -28,27 +47,76 @@ public class TestRunner {
 
     private static final Logger log = LoggerFactory.getLogger(TestRunner.class);
     private static final String TARGET_PACKAGE = "org.example.selenium.framework.tests";
-    private static final int MAX_CONCURRENT_SESSIONS = FrameworkConfig.INSTANCE.getConfigAsInt("execution.threadCount", Runtime.getRuntime().availableProcessors() / 2);
-    private final Semaphore browserSessionLimiter = new Semaphore(MAX_CONCURRENT_SESSIONS);
+    // Validates the execution configuration before anything else is set up
+    private final ResizableSemaphore browserSessionLimiter = new ResizableSemaphore(LiveConfig.INSTANCE.get().threadCount());
+    private final Consumer<ExecutionConfig> concurrencyListener = config -> resizeSessionLimit(config.threadCount());
+    private volatile int peakSessionLimit = browserSessionLimiter.getLimit();
     private final List<Method> parallelTests = new ArrayList<>();
     private final List<Method> singleThreadedTests = new ArrayList<>();
-
+    private final ReportingService reportingService = new ReportingService();
+    // Budget configuration is parsed once per run, not per test
+    private final PerfBudgetEvaluator budgetEvaluator = PerfBudgetEvaluator.fromConfig();
+    private final ResultStore resultStore = ResultStore.fromConfig();
+    // Holds failure screenshots and the images of failed visual comparisons
+    private final ScreenshotStore screenshotStore = ScreenshotStore.fromConfig(reportingService.getOutput().getRunId());
 
     public void run() {
         scanForTests();
-        executeTests();
+        RunMetrics.INSTANCE.setPermitLimit(browserSessionLimiter.getLimit());
+        MetricsHttpServer metricsServer = startMetricsServer();
+        reportingService.start();
+        LiveConfig.INSTANCE.addListener(concurrencyListener);
+        LiveConfig.INSTANCE.startWatching();
+        ScreenshotStore.setCurrent(screenshotStore);
+        try {
+            executeTests();
+        } finally {
+            LiveConfig.INSTANCE.stopWatching();
+            LiveConfig.INSTANCE.removeListener(concurrencyListener);
+            WebdriverFactory.shutdown();
+            resultStore.close();
+            ScreenshotStore.setCurrent(null);
+            screenshotStore.close();
+            if (metricsServer != null) {
+                metricsServer.stop();
+            }
+        }
+    }
+
+    private void resizeSessionLimit(int limit) {
+        int previous = browserSessionLimiter.getLimit();
+        if (limit == previous) {
+            return;
+        }
+        browserSessionLimiter.setLimit(limit);
+        peakSessionLimit = Math.max(peakSessionLimit, limit);
+        RunMetrics.INSTANCE.setPermitLimit(limit);
+        log.info("Concurrent browser session limit changed from {} to {}", previous, limit);
+    }
+
+    private MetricsHttpServer startMetricsServer() {
+        if (!FrameworkConfig.INSTANCE.getConfigAsBoolean("metrics.http.enabled")) {
+            return null;
+        }
+        int port = FrameworkConfig.INSTANCE.getConfigAsInt("metrics.http.port", 9464);
+        try {
+            return MetricsHttpServer.start(port, RunMetrics.INSTANCE);
+        } catch (IOException e) {
+            log.warn("Failed to start metrics endpoint on port {}. Continuing without it.", port, e);
+            return null;
+        }
     }
 
     private void executeTests() {
         log.info("Starting test execution...");
-        List<Future<TestResult>> allFutures = new ArrayList<>();
+        List<Future<TestStatus>> allFutures = new ArrayList<>();
 
         if (!parallelTests.isEmpty()) {
             allFutures.addAll(executeParallelTests());
         }
 
         if (!singleThreadedTests.isEmpty()) {
-            allFutures.addAll(executeSingleThreadedTests());
+            allFutures.addAll(executeSingleThreadedTests(parallelTests.size()));
         }
 
         log.info("All tests have completed. Processing results...");
@@ -56,10 +124,10 @@ public class TestRunner {
         log.info("Test execution finished.");
     }
 
-    private List<Future<TestResult>> executeSingleThreadedTests() {
+    private List<Future<TestStatus>> executeSingleThreadedTests(int firstSequence) {
         log.debug("Executing {} single-threaded tests...", singleThreadedTests.size());
         try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
-            List<Callable<TestResult>> tasks = createTasksFor(singleThreadedTests, false);
+            List<Callable<TestStatus>> tasks = createTasksFor(singleThreadedTests, false, firstSequence);
             return executor.invokeAll(tasks);
         } catch (InterruptedException e) {
             log.error("Single-threaded test execution was interrupted", e);
@@ -68,10 +136,10 @@ public class TestRunner {
         }
     }
 
-    private List<Future<TestResult>> executeParallelTests() {
+    private List<Future<TestStatus>> executeParallelTests() {
         log.debug("Executing {} parallel tests...", parallelTests.size());
         try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            List<Callable<TestResult>> tasks = createTasksFor(parallelTests, true);
+            List<Callable<TestStatus>> tasks = createTasksFor(parallelTests, true, 0);
             return executor.invokeAll(tasks);
         } catch (InterruptedException e) {
             log.error("Parallel test execution was interrupted", e);
@@ -80,119 +148,272 @@ public class TestRunner {
         }
     }
 
-    private List<Callable<TestResult>> createTasksFor(List<Method> methods, boolean useSemaphore) {
-        return methods.stream()
-                .<Callable<TestResult>>map(method -> () -> {
-                    if (useSemaphore) {
-                        log.debug("Waiting for permit to run test: {}.{}()",
-                                method.getDeclaringClass().getSimpleName(),
-                                method.getName());
-                        browserSessionLimiter.acquire();
-                    }
-                    WebdriverFactory.DriverAndListeners driverAndListener = null;
-                    WebDriver driver = null;
-                    long startTestExecution = System.currentTimeMillis();
+    /**
+     * Tasks hand their result to the result store as soon as the test completes and only return its status, so
+     * finished results are not also held by their futures until the whole run is done.
+     */
+    private List<Callable<TestStatus>> createTasksFor(List<Method> methods, boolean useSemaphore, int firstSequence) {
+        long queuedTimestamp = System.currentTimeMillis();
+        List<Callable<TestStatus>> tasks = new ArrayList<>(methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            Method method = methods.get(i);
+            int sequence = firstSequence + i;
+            tasks.add(() -> {
+                TestResult result = runTest(method, useSemaphore, queuedTimestamp);
+                RunMetrics.INSTANCE.recordTestResult(result.status());
+                reportingService.publish(result);
+                resultStore.add(sequence, result);
+                return result.status();
+            });
+        }
+        return tasks;
+    }
 
-                    try {
-                        if (method.isAnnotationPresent(Ignore.class)) {
-                            return new TestResult(method, TestStatus.SKIPPED, System.currentTimeMillis(), System.currentTimeMillis(), method.getAnnotation(Ignore.class).value(), List.of());
-                        }
-                        log.info("🔄 Starting test: {}.{}()",
-                                method.getDeclaringClass().getSimpleName(),
-                                method.getName());
-                        driverAndListener = WebdriverFactory.createDriver();
-                        driver = driverAndListener.driver;
-
-                        // Initialize HamcrestAssertions with the TimingService
-                        AssertionFactory.initHamcrestAssertions(driverAndListener.getTimingService());
-
-                        Object testInstance = method.getDeclaringClass().getDeclaredConstructor().newInstance();
-                        method.invoke(testInstance, driver);
-                        return new TestResult(
-                                method,
-                                TestStatus.PASSED,
-                                startTestExecution,
-                                System.currentTimeMillis(),
-                                null,
-                                driverAndListener.getListener(PerformanceWebDriverListener.class).getTimings());
-                    } catch (Throwable e) {
-                        List<TestAction> timings = driverAndListener != null ? driverAndListener.getListener(PerformanceWebDriverListener.class).getTimings() : List.of();
-                        if (!timings.isEmpty()) {
-                            TestAction lastAction = timings.getLast();
-                            if (lastAction.success()) {
-                                timings.set(timings.size() - 1, new TestAction(
-                                        lastAction.action() + " (last action before failure)",
-                                        lastAction.target(),
-                                        lastAction.startTimestamp(),
-                                        lastAction.endTimestamp(),
-                                        false,
-                                        "Test failed with exception: " + e.getCause().toString()
-                                ));
-
-                            }
-                        }
-                        return new TestResult(method, TestStatus.FAILED, startTestExecution, System.currentTimeMillis(), e.getCause().toString(), timings);
-                    } finally {
-                        // Clean up HamcrestAssertions
-                        AssertionFactory.cleanupHamcrestAssertions();
+    private TestResult runTest(Method method, boolean useSemaphore, long queuedTimestamp) throws InterruptedException {
+        if (useSemaphore) {
+            log.debug("Waiting for permit to run test: {}.{}()",
+                    method.getDeclaringClass().getSimpleName(),
+                    method.getName());
+            RunMetrics.INSTANCE.onPermitRequested();
+            PermitWaitEvent permitWaitEvent = new PermitWaitEvent();
+            permitWaitEvent.begin();
+            try {
+                browserSessionLimiter.acquire();
+            } catch (InterruptedException e) {
+                // Not queued anymore, the gauge would otherwise count this test until the run ends
+                RunMetrics.INSTANCE.onPermitAbandoned();
+                throw e;
+            }
+            permitWaitEvent.end();
+            if (permitWaitEvent.shouldCommit()) {
+                permitWaitEvent.testClass = method.getDeclaringClass().getName();
+                permitWaitEvent.testName = method.getName();
+                permitWaitEvent.commit();
+            }
+            RunMetrics.INSTANCE.onPermitAcquired();
+        }
+        WebdriverFactory.DriverAndListeners driverAndListener = null;
+        WebDriver driver = null;
+        long startTestExecution = System.currentTimeMillis();
+        long driverReadyTimestamp = startTestExecution;
+        long bodyEndTimestamp = startTestExecution;
+        long endTimestamp;
+        TestResult result;
+        TestStatus status = TestStatus.FAILED;
+        TestExecutionEvent testExecutionEvent = new TestExecutionEvent();
+        testExecutionEvent.begin();
 
-                        if (driver != null) {
-                            driver.quit();
-                        }
-                        if (useSemaphore) {
-                            browserSessionLimiter.release();
-                        }
-                        log.debug("Permit released for test: {}.{}()",
-                                method.getDeclaringClass().getSimpleName(),
-                                method.getName());
-                    }
-                })
-                .toList();
+        RunMetrics.INSTANCE.onTestStarted();
+        try {
+            if (method.isAnnotationPresent(Ignore.class)) {
+                status = TestStatus.SKIPPED;
+                result = new TestResult(method, TestStatus.SKIPPED, System.currentTimeMillis(), System.currentTimeMillis(), method.getAnnotation(Ignore.class).value(), List.of());
+            } else {
+                log.info("🔄 Starting test: {}.{}()",
+                        method.getDeclaringClass().getSimpleName(),
+                        method.getName());
+                driverAndListener = WebdriverFactory.createDriver();
+                driver = driverAndListener.driver;
+                driverReadyTimestamp = System.currentTimeMillis();
+
+                // Initialize HamcrestAssertions with the TimingService
+                AssertionFactory.initHamcrestAssertions(driverAndListener.getTimingService());
+                Steps.init(driverAndListener.getTimingService());
+
+                Object testInstance = method.getDeclaringClass().getDeclaredConstructor().newInstance();
+                method.invoke(testInstance, driver);
+                long endTestExecution = System.currentTimeMillis();
+                bodyEndTimestamp = endTestExecution;
+                List<TestAction> timings = driverAndListener.getTimingService().getTimings();
+                List<BudgetViolation> budgetViolations = budgetEvaluator.evaluate(method, startTestExecution, endTestExecution, timings);
+                if (!budgetViolations.isEmpty() && budgetEvaluator.failOnViolation()) {
+                    status = TestStatus.BUDGET_EXCEEDED;
+                    result = new TestResult(method, status, startTestExecution, endTestExecution,
+                            "Performance budget exceeded: " + budgetViolations.getFirst(), timings, budgetViolations);
+                } else {
+                    status = TestStatus.PASSED;
+                    result = new TestResult(
+                            method,
+                            TestStatus.PASSED,
+                            startTestExecution,
+                            endTestExecution,
+                            null,
+                            timings,
+                            budgetViolations);
+                }
+            }
+        } catch (Throwable e) {
+            long failureTimestamp = System.currentTimeMillis();
+            if (driverAndListener == null) {
+                // The driver could not be created, the time went into driver startup
+                driverReadyTimestamp = failureTimestamp;
+            }
+            bodyEndTimestamp = failureTimestamp;
+            List<TestAction> timings = driverAndListener != null ? driverAndListener.getTimingService().getTimings() : List.of();
+            if (!timings.isEmpty()) {
+                TestAction lastAction = timings.getLast();
+                if (lastAction.success()) {
+                    timings.set(timings.size() - 1, new TestAction(
+                            lastAction.action() + " (last action before failure)",
+                            lastAction.target(),
+                            lastAction.startTimestamp(),
+                            lastAction.endTimestamp(),
+                            false,
+                            "Test failed with exception: " + e.getCause().toString(),
+                            lastAction.transportMicros(),
+                            lastAction.spanId(),
+                            lastAction.parentSpanId(),
+                            lastAction.metrics()
+                    ));
+
+                }
+            }
+            result = new TestResult(method, TestStatus.FAILED, startTestExecution, failureTimestamp, e.getCause().toString(), timings)
+                    .withScreenshots(captureFailureScreenshot(method, driver));
+        } finally {
+            // Clean up HamcrestAssertions
+            AssertionFactory.cleanupHamcrestAssertions();
+            Steps.cleanup();
+
+            if (driver != null) {
+                driver.quit();
+            }
+            endTimestamp = System.currentTimeMillis();
+            RunMetrics.INSTANCE.onTestEnded();
+            testExecutionEvent.end();
+            if (testExecutionEvent.shouldCommit()) {
+                testExecutionEvent.testClass = method.getDeclaringClass().getName();
+                testExecutionEvent.testName = method.getName();
+                testExecutionEvent.status = status.name();
+                testExecutionEvent.commit();
+            }
+            if (useSemaphore) {
+                browserSessionLimiter.release();
+                RunMetrics.INSTANCE.onPermitReleased();
+            }
+            log.debug("Permit released for test: {}.{}()",
+                    method.getDeclaringClass().getSimpleName(),
+                    method.getName());
+        }
+        return result.withPhases(new TestPhases(queuedTimestamp, startTestExecution, driverReadyTimestamp, bodyEndTimestamp, endTimestamp));
     }
 
-    private void processResults(List<Future<TestResult>> futures) {
+    /**
+     * Capture the page a test failed on, while its session is still open.
+     */
+    private List<ScreenshotRef> captureFailureScreenshot(Method method, WebDriver driver) {
+        if (!FrameworkConfig.INSTANCE.getConfigAsBoolean("screenshot.onFailure") || !(driver instanceof TakesScreenshot takesScreenshot)) {
+            return List.of();
+        }
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName() + "/failure";
+        try {
+            ScreenshotRef screenshot = screenshotStore.store(name, takesScreenshot.getScreenshotAs(OutputType.BYTES));
+            log.debug("Failure screenshot {}: {}", name, screenshot.path());
+            return List.of(screenshot);
+        } catch (Exception e) {
+            // The session may be what failed, the test result matters more than its screenshot
+            log.warn("Failed to capture failure screenshot {}", name, e);
+            return List.of();
+        }
+    }
+
+    private void processResults(List<Future<TestStatus>> futures) {
         int success = 0;
         int failed = 0;
         int skipped = 0;
+        int overBudget = 0;
+        // Test time by phase, summed in the same pass as the outcomes: spilled results are read from disk per pass
+        long[] phaseMillis = new long[4];
 
-        List<TestResult> results = new ArrayList<>();
-
-        for (Future<TestResult> future : futures) {
+        for (Future<TestStatus> future : futures) {
             try {
-                TestResult result = future.get();
-                results.addLast(result);
-                switch (result.status()) {
-                    case PASSED -> {
-                        success++;
-                        log.info("✅ PASSED: {}", result.getTestName());
-                        if (!result.testActions().isEmpty()) {
-                            result.testActions().forEach(timing -> log.info(timing.toString()));
-                        }
-                    }
-                    case FAILED -> {
-                        failed++;
-                        log.error("❌ FAILED: {} - Reason: {}", result.getTestName(), result.error());
-                        if (!result.testActions().isEmpty()) {
-                            result.testActions().forEach(timing -> log.error(timing.toString()));
-                        }
-                    }
-                    case SKIPPED -> {
-                        skipped++;
-                        log.info("⏭️ SKIPPED: {} - Reason: {}", result.getTestName(), result.error());
-                    }
-                }
+                future.get();
             } catch (Exception e) {
                 failed++;
                 log.error("❌ A test task failed to execute correctly.", e);
             }
         }
-        log.info("--- Summary --- Passed: {}, Failed: {}, Skipped: {}", success, failed, skipped);
 
-        TestRun testRun = new TestRun(results);
-        ReportingService reportingService = new ReportingService();
+        List<TestResult> results = resultStore.results();
+        if (resultStore.spilledCount() > 0) {
+            log.info("{} of {} test results were spilled to disk and are read back for reporting", resultStore.spilledCount(), results.size());
+        }
+        for (TestResult result : results) {
+            TestPhases phases = result.phases();
+            phaseMillis[0] += phases.queuedMillis();
+            phaseMillis[1] += phases.driverStartupMillis();
+            phaseMillis[2] += phases.bodyMillis();
+            phaseMillis[3] += phases.teardownMillis();
+            switch (result.status()) {
+                case PASSED -> {
+                    success++;
+                    log.info("✅ PASSED: {}", result.getTestName());
+                    if (!result.testActions().isEmpty()) {
+                        result.testActions().forEach(timing -> log.info(timing.toString()));
+                    }
+                    result.budgetViolations().forEach(violation -> log.warn("⚠️ Over budget: {} - {}", result.getTestName(), violation));
+                }
+                case BUDGET_EXCEEDED -> {
+                    overBudget++;
+                    log.error("⏱️ OVER BUDGET: {}", result.getTestName());
+                    result.budgetViolations().forEach(violation -> {
+                        log.error(violation.toString());
+                        violation.offendingActions().forEach(action -> log.error("  " + action));
+                    });
+                }
+                case FAILED -> {
+                    failed++;
+                    log.error("❌ FAILED: {} - Reason: {}", result.getTestName(), result.error());
+                    if (!result.testActions().isEmpty()) {
+                        result.testActions().forEach(timing -> log.error(timing.toString()));
+                    }
+                }
+                case SKIPPED -> {
+                    skipped++;
+                    log.info("⏭️ SKIPPED: {} - Reason: {}", result.getTestName(), result.error());
+                }
+            }
+        }
+        log.info("--- Summary --- Passed: {}, Failed: {}, Over budget: {}, Skipped: {}", success, failed, overBudget, skipped);
+
+        List<LatencySummary> metrics = RunMetrics.INSTANCE.latencySummaries();
+        if (!metrics.isEmpty()) {
+            log.info("--- Action latency ---");
+            metrics.stream()
+                    .filter(summary -> summary.target() == null)
+                    .forEach(summary -> log.info(summary.toString()));
+        }
+
+        List<Regression> regressions = RegressionDetector.recordAndCompare(results);
+        if (!regressions.isEmpty()) {
+            log.warn("--- Regressions against baseline ---");
+            regressions.forEach(regression -> log.warn(regression.toString()));
+        }
+
+        SchedulingTimeline timeline = SchedulingTimeline.of(results, peakSessionLimit,
+                FrameworkConfig.INSTANCE.getConfigAsInt("report.timeline.buckets", 60));
+        if (timeline != null) {
+            logScheduling(phaseMillis, timeline);
+        }
+
+        TestRun testRun = new TestRun(results, metrics, regressions, timeline);
         reportingService.process(testRun);
     }
 
+    /**
+     * @param phaseMillis Summed test time by phase: queued, driver startup, body and teardown
+     */
+    private void logScheduling(long[] phaseMillis, SchedulingTimeline timeline) {
+        log.info("--- Scheduling --- Wall clock: {}ms, slot utilisation: {}%",
+                timeline.runEndTimestamp() - timeline.runStartTimestamp(), Math.round(timeline.utilisation() * 100));
+        log.info("  Test time: queued={}ms, driver startup={}ms, body={}ms, teardown={}ms",
+                phaseMillis[0], phaseMillis[1], phaseMillis[2], phaseMillis[3]);
+        SchedulingTimeline.CriticalPath criticalPath = timeline.criticalPath();
+        log.info("  Critical path ({} tests): driver startup={}ms, body={}ms, teardown={}ms, other={}ms",
+                criticalPath.testNames().size(), criticalPath.driverStartupMillis(), criticalPath.bodyMillis(),
+                criticalPath.teardownMillis(), criticalPath.otherMillis());
+    }
+
     private void scanForTests() {
         log.debug("Scanning for tests in package: " + TARGET_PACKAGE + "...");
 
@@ -0,0 +1,9 @@
+package org.example.selenium.framework.history;
+
+/**
+ * Duration statistics of one test, or of one action type within one test, in a single run.
+ * The action type is {@link #TEST_DURATION} for the total duration of the test. Durations are in milliseconds.
+ */
+public record HistoryEntry(String testName, String actionType, int count, double meanMillis, double varianceMillis) {
+    public static final String TEST_DURATION = "Test";
+}
@@ -0,0 +1,9 @@
+package org.example.selenium.framework.history;
+
+import java.util.List;
+
+/**
+ * The history entries recorded for one run.
+ */
+public record HistoryRun(long timestamp, List<HistoryEntry> entries) {
+}
@@ -0,0 +1,164 @@
+package org.example.selenium.framework.history;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only binary file with one block per run.
+ * <p>
+ * Every block ends with its own length and a marker, so the latest runs are read by walking backwards from
+ * the end of the file. Reading the baseline therefore costs the same no matter how many runs the file holds.
+ * </p>
+ * Block layout: {@code timestamp:long, entryCount:int, entries..., blockLength:int, MAGIC:int}
+ * with each entry written as {@code testName:UTF, actionType:UTF, count:int, mean:double, variance:double}.
+ */
+public class HistoryStore {
+    private static final int MAGIC = 0x54484953; // "THIS", timing history
+    private static final int FOOTER_BYTES = Integer.BYTES * 2;
+
+    private final Path file;
+
+    public HistoryStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Append a run to the end of the history file, creating it if needed. The file is locked while it is appended
+     * to, so runs finishing at the same time don't interleave or truncate each other's blocks.
+     *
+     * @param run The run to append
+     * @throws IOException If the file can't be written
+     */
+    @SuppressWarnings("try")
+    public void append(HistoryRun run) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(run.timestamp());
+        out.writeInt(run.entries().size());
+        for (HistoryEntry entry : run.entries()) {
+            out.writeUTF(entry.testName());
+            out.writeUTF(entry.actionType());
+            out.writeInt(entry.count());
+            out.writeDouble(entry.meanMillis());
+            out.writeDouble(entry.varianceMillis());
+        }
+        out.writeInt(bytes.size() + FOOTER_BYTES);
+        out.writeInt(MAGIC);
+        out.flush();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            channel.position(validLength(channel));
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Read the latest runs of the history, newest first.
+     * Stops at the first block that doesn't end with a valid footer, e.g. after an interrupted write.
+     *
+     * @param maxRuns Maximum number of runs to read
+     * @return The latest runs, newest first; empty if there is no history yet
+     * @throws IOException If the file can't be read
+     */
+    public List<HistoryRun> readLatest(int maxRuns) throws IOException {
+        List<HistoryRun> runs = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return runs;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            long position = raf.length();
+            while (runs.size() < maxRuns && position >= FOOTER_BYTES) {
+                raf.seek(position - FOOTER_BYTES);
+                int length = raf.readInt();
+                if (raf.readInt() != MAGIC || length <= FOOTER_BYTES || length > position) {
+                    break;
+                }
+                byte[] block = new byte[length - FOOTER_BYTES];
+                raf.seek(position - length);
+                raf.readFully(block);
+                runs.add(readRun(block));
+                position -= length;
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Length of the file up to the end of its last complete block.
+     * Normally the whole file; after an interrupted write the incomplete tail is dropped by scanning the blocks
+     * from the start, so that later appends stay reachable from the end of the file.
+     */
+    private long validLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0 || hasFooterAt(channel, size)) {
+            return size;
+        }
+        long valid = 0;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            while (valid < size) {
+                raf.seek(valid);
+                raf.readLong();
+                int count = raf.readInt();
+                for (int i = 0; i < count; i++) {
+                    raf.readUTF();
+                    raf.readUTF();
+                    raf.readInt();
+                    raf.readDouble();
+                    raf.readDouble();
+                }
+                long length = raf.getFilePointer() - valid + FOOTER_BYTES;
+                if (raf.readInt() != length || raf.readInt() != MAGIC) {
+                    break;
+                }
+                valid += length;
+            }
+        } catch (IOException e) {
+            // Incomplete block, everything before it is kept
+        }
+        channel.truncate(valid);
+        return valid;
+    }
+
+    private boolean hasFooterAt(FileChannel channel, long position) throws IOException {
+        if (position < FOOTER_BYTES) {
+            return false;
+        }
+        ByteBuffer footer = ByteBuffer.allocate(FOOTER_BYTES);
+        while (footer.hasRemaining() && channel.read(footer, position - FOOTER_BYTES + footer.position()) > 0) {
+            // keep reading until the footer is complete
+        }
+        footer.flip();
+        return footer.remaining() == FOOTER_BYTES && footer.getInt(Integer.BYTES) == MAGIC;
+    }
+
+    private HistoryRun readRun(byte[] block) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(block));
+        long timestamp = in.readLong();
+        int count = in.readInt();
+        List<HistoryEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new HistoryEntry(in.readUTF(), in.readUTF(), in.readInt(), in.readDouble(), in.readDouble()));
+        }
+        return new HistoryRun(timestamp, entries);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.selenium.framework.history;
+
+/**
+ * A statistically significant slowdown of a test or action type against the rolling baseline of earlier runs.
+ */
+public record Regression(String testName, String actionType, int baselineRuns, double baselineMeanMillis,
+                         double currentMeanMillis, double tScore) {
+
+    @Override
+    public String toString() {
+        return String.format("  %s '%s': %.1fms vs baseline %.1fms over %d runs (+%.0f%%, t=%.1f)",
+                testName, actionType, currentMeanMillis, baselineMeanMillis, baselineRuns,
+                (currentMeanMillis / baselineMeanMillis - 1) * 100, tScore);
+    }
+}
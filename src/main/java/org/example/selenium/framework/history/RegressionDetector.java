@@ -0,0 +1,151 @@
+package org.example.selenium.framework.history;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.listener.TestAction;
+import org.example.selenium.framework.results.TestResult;
+import org.example.selenium.framework.results.TestStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the timings of a run in the history store and compares them with a rolling baseline of earlier runs.
+ * <p>
+ * The baseline of a test or action type is the mean duration it had in each of the latest
+ * {@code history.baseline.runs} runs. The current mean is flagged when it lies more than {@code history.tScore}
+ * standard errors of prediction above the baseline mean, i.e. {@code (x - mean) / (s * sqrt(1 + 1/k))},
+ * and is at least {@code history.minIncrease} slower relatively. Using run means keeps the run-to-run noise of
+ * the environment in the baseline, so single noisy runs don't raise alarms.
+ * </p>
+ * <p>
+ * The spread within runs sets a floor to that standard error: the current mean of {@code n} actions carries at least
+ * the sampling error {@code sqrt(v / n)}, with {@code v} the variance of the action durations pooled over the
+ * baseline runs. Baseline runs whose means happened to agree closely thus don't make small differences significant.
+ * </p>
+ */
+public class RegressionDetector {
+    private static final Logger log = LoggerFactory.getLogger(RegressionDetector.class);
+
+    /**
+     * Append the timings of the run to the history and return the regressions against the baseline.
+     * Does nothing if history.enabled is not set. Failures to read or write the history are logged, never thrown.
+     *
+     * @param testResults The results of the run
+     * @return The detected regressions, empty if there are none or the history is disabled
+     */
+    public static List<Regression> recordAndCompare(List<TestResult> testResults) {
+        if (!FrameworkConfig.INSTANCE.getConfigAsBoolean("history.enabled")) {
+            return List.of();
+        }
+        HistoryStore store = new HistoryStore(Paths.get(FrameworkConfig.INSTANCE.getConfig("history.file", "perf-history/timings.bin")));
+        HistoryRun currentRun = summarise(testResults);
+        try {
+            List<HistoryRun> baseline = store.readLatest(FrameworkConfig.INSTANCE.getConfigAsInt("history.baseline.runs", 20));
+            List<Regression> regressions = compare(currentRun, baseline);
+            store.append(currentRun);
+            return regressions;
+        } catch (IOException e) {
+            log.warn("Failed to update the timing history. Skipping regression detection.", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Summarise passed tests into one entry per test and one per action type within each test.
+     * Failed actions are left out, they usually end early or time out.
+     */
+    static HistoryRun summarise(List<TestResult> testResults) {
+        List<HistoryEntry> entries = new ArrayList<>();
+        for (TestResult result : testResults) {
+            if (result.status() != TestStatus.PASSED && result.status() != TestStatus.BUDGET_EXCEEDED) {
+                continue;
+            }
+            String testName = result.getTestName();
+            entries.add(new HistoryEntry(testName, HistoryEntry.TEST_DURATION, 1,
+                    result.testEndTimestamp() - result.testStartTimestamp(), 0));
+
+            Map<String, double[]> statsByAction = new LinkedHashMap<>();
+            for (TestAction action : result.testActions()) {
+                if (!action.success()) {
+                    continue;
+                }
+                // count, mean, sum of squared deviations (Welford)
+                double[] stats = statsByAction.computeIfAbsent(action.type(), type -> new double[3]);
+                double duration = action.endTimestamp() - action.startTimestamp();
+                stats[0]++;
+                double delta = duration - stats[1];
+                stats[1] += delta / stats[0];
+                stats[2] += delta * (duration - stats[1]);
+            }
+            statsByAction.forEach((actionType, stats) -> entries.add(new HistoryEntry(testName, actionType, (int) stats[0],
+                    stats[1], stats[0] > 1 ? stats[2] / (stats[0] - 1) : 0)));
+        }
+        return new HistoryRun(System.currentTimeMillis(), entries);
+    }
+
+    static List<Regression> compare(HistoryRun currentRun, List<HistoryRun> baseline) {
+        int minRuns = FrameworkConfig.INSTANCE.getConfigAsInt("history.baseline.minRuns", 5);
+        double tScoreThreshold = FrameworkConfig.INSTANCE.getConfigAsDouble("history.tScore", 3.0);
+        double minIncrease = FrameworkConfig.INSTANCE.getConfigAsDouble("history.minIncrease", 0.1);
+
+        Map<String, Baseline> baselines = new HashMap<>();
+        for (HistoryRun run : baseline) {
+            for (HistoryEntry entry : run.entries()) {
+                baselines.computeIfAbsent(key(entry), k -> new Baseline()).add(entry);
+            }
+        }
+
+        List<Regression> regressions = new ArrayList<>();
+        for (HistoryEntry entry : currentRun.entries()) {
+            Baseline entryBaseline = baselines.get(key(entry));
+            if (entryBaseline == null || entryBaseline.means.size() < minRuns) {
+                continue;
+            }
+            List<Double> means = entryBaseline.means;
+            int runs = means.size();
+            double mean = means.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+            double variance = means.stream().mapToDouble(m -> (m - mean) * (m - mean)).sum() / (runs - 1);
+            double samplingVariance = entryBaseline.pooledVariance() / Math.max(1, entry.count());
+            double standardError = Math.sqrt(Math.max(variance * (1 + 1.0 / runs), samplingVariance));
+            double difference = entry.meanMillis() - mean;
+            double tScore = standardError > 0 ? difference / standardError : (difference > 0 ? Double.POSITIVE_INFINITY : 0);
+
+            if (tScore > tScoreThreshold && entry.meanMillis() > mean * (1 + minIncrease)) {
+                regressions.add(new Regression(entry.testName(), entry.actionType(), runs, mean, entry.meanMillis(), tScore));
+            }
+        }
+        return regressions;
+    }
+
+    private static String key(HistoryEntry entry) {
+        return entry.testName() + '\u0000' + entry.actionType();
+    }
+
+    /**
+     * The baseline runs of a test or action type: their means, and their variances pooled by degrees of freedom.
+     */
+    private static final class Baseline {
+        private final List<Double> means = new ArrayList<>();
+        private double squaredDeviations;
+        private long degreesOfFreedom;
+
+        private void add(HistoryEntry entry) {
+            means.add(entry.meanMillis());
+            if (entry.count() > 1) {
+                squaredDeviations += entry.varianceMillis() * (entry.count() - 1);
+                degreesOfFreedom += entry.count() - 1;
+            }
+        }
+
+        private double pooledVariance() {
+            return degreesOfFreedom > 0 ? squaredDeviations / degreesOfFreedom : 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.selenium.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for an action completed by a TimingService.
+ * Start and end of an action happen in separate calls, so the event is committed when the action ends and
+ * carries the action duration in {@code elapsed}.
+ */
+@Name("org.example.selenium.Action")
+@Label("Test Action")
+@Category({"Selenium Framework", "Actions"})
+@Description("Driver command, wait, assertion or step timed by the framework")
+@StackTrace(false)
+public class ActionEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(ActionEvent.class);
+
+    @Label("Action")
+    String action;
+
+    @Label("Target")
+    String target;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Span Id")
+    long spanId;
+
+    @Label("Parent Span Id")
+    long parentSpanId;
+
+    /**
+     * Whether action events are enabled in a running recording, so callers can skip rendering their fields.
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Commit an action event if the event type is enabled in a running recording.
+     * Does nothing, and allocates nothing, when it is not.
+     *
+     * @param action       The action type
+     * @param target       The target of the action
+     * @param success      Whether the action succeeded
+     * @param elapsedNanos Duration of the action in nanoseconds
+     * @param spanId       Span id of the action
+     * @param parentSpanId Span id of the enclosing action, 0 for top-level actions
+     */
+    public static void commit(String action, String target, boolean success, long elapsedNanos, long spanId, long parentSpanId) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        ActionEvent event = new ActionEvent();
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.target = target;
+            event.success = success;
+            event.elapsed = elapsedNanos;
+            event.spanId = spanId;
+            event.parentSpanId = parentSpanId;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.selenium.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the time a test waited for a browser session permit.
+ */
+@Name("org.example.selenium.PermitWait")
+@Label("Session Permit Wait")
+@Category({"Selenium Framework", "Tests"})
+@Description("Time a test spent queued for a browser session permit")
+@StackTrace(false)
+public class PermitWaitEvent extends Event {
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Test Name")
+    public String testName;
+}
@@ -0,0 +1,24 @@
+package org.example.selenium.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the creation and configuration of a browser session.
+ */
+@Name("org.example.selenium.SessionCreation")
+@Label("Session Creation")
+@Category({"Selenium Framework", "Sessions"})
+@Description("Creation and configuration of a browser session")
+@StackTrace(false)
+public class SessionCreationEvent extends Event {
+    @Label("Browser")
+    public String browser;
+
+    @Label("Success")
+    public boolean success;
+}
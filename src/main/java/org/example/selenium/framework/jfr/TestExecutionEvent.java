@@ -0,0 +1,27 @@
+package org.example.selenium.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the execution of a single test, from driver creation to quitting the driver.
+ */
+@Name("org.example.selenium.TestExecution")
+@Label("Test Execution")
+@Category({"Selenium Framework", "Tests"})
+@Description("Execution of a single test method")
+@StackTrace(false)
+public class TestExecutionEvent extends Event {
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Test Name")
+    public String testName;
+
+    @Label("Status")
+    public String status;
+}
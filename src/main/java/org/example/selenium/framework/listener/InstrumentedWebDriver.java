@@ -0,0 +1,151 @@
+package org.example.selenium.framework.listener;
+
+import org.example.selenium.framework.timing.TimingService;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Direct, non-reflective decorator that times the driver calls PerformanceWebDriverListener records.
+ * Used for the SUMMARY instrumentation level, where the per-call cost of the event firing proxy and of
+ * element descriptions matters. Elements are described by the locator they were found with.
+ */
+public class InstrumentedWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, WrapsDriver, HasCapabilities {
+    private final WebDriver driver;
+    private final TimingService timingService;
+    private final boolean collectPageMetrics = PageMetricsCollector.isEnabled();
+
+    public InstrumentedWebDriver(WebDriver driver, TimingService timingService) {
+        this.driver = driver;
+        this.timingService = timingService;
+    }
+
+    @Override
+    public void get(String url) {
+        timingService.startTiming("Navigate to URL", url);
+        try {
+            driver.get(url);
+        } catch (RuntimeException e) {
+            timingService.endTiming("Navigate to URL", url, false, e.toString());
+            throw e;
+        }
+        if (collectPageMetrics) {
+            timingService.endTiming("Navigate to URL", url, true, null, () -> PageMetricsCollector.collect(driver));
+        } else {
+            timingService.endTiming("Navigate to URL", url, true);
+        }
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        String target = by.toString();
+        timingService.startTiming("Find Elements", target);
+        List<WebElement> elements;
+        try {
+            elements = driver.findElements(by);
+        } catch (RuntimeException e) {
+            timingService.endTiming("Find Elements", target, false, e.toString());
+            throw e;
+        }
+        timingService.endTiming("Find Elements", target, true);
+        return wrap(elements, target, timingService);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return new InstrumentedWebElement(driver.findElement(by), by.toString(), timingService);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return driver.getCurrentUrl();
+    }
+
+    @Override
+    public String getTitle() {
+        return driver.getTitle();
+    }
+
+    @Override
+    public String getPageSource() {
+        return driver.getPageSource();
+    }
+
+    @Override
+    public void close() {
+        driver.close();
+    }
+
+    @Override
+    public void quit() {
+        driver.quit();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return driver.getWindowHandles();
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return driver.getWindowHandle();
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return driver.switchTo();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return driver.navigate();
+    }
+
+    @Override
+    public Options manage() {
+        return driver.manage();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return ((TakesScreenshot) driver).getScreenshotAs(target);
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return ((HasCapabilities) driver).getCapabilities();
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    static List<WebElement> wrap(List<WebElement> elements, String target, TimingService timingService) {
+        List<WebElement> wrapped = new ArrayList<>(elements.size());
+        for (WebElement element : elements) {
+            wrapped.add(new InstrumentedWebElement(element, target, timingService));
+        }
+        return wrapped;
+    }
+}
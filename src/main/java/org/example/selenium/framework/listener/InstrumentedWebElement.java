@@ -0,0 +1,173 @@
+package org.example.selenium.framework.listener;
+
+import org.example.selenium.framework.timing.TimingService;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.List;
+
+/**
+ * Element counterpart of {@link InstrumentedWebDriver}.
+ * Click, send keys and get text are timed with the locator the element was found with as target.
+ */
+public class InstrumentedWebElement implements WebElement, WrapsElement {
+    private final WebElement element;
+    private final String target;
+    private final TimingService timingService;
+
+    public InstrumentedWebElement(WebElement element, String target, TimingService timingService) {
+        this.element = element;
+        this.target = target;
+        this.timingService = timingService;
+    }
+
+    @Override
+    public void click() {
+        timingService.startTiming("Click Element", target);
+        try {
+            element.click();
+        } catch (RuntimeException e) {
+            timingService.endTiming("Click Element", target, false, e.toString());
+            throw e;
+        }
+        timingService.endTiming("Click Element", target, true);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        timingService.startTiming("Send Keys", target);
+        try {
+            element.sendKeys(keysToSend);
+        } catch (RuntimeException e) {
+            timingService.endTiming("Send Keys", target, false, e.toString());
+            throw e;
+        }
+        timingService.endTiming("Send Keys", target, true);
+    }
+
+    @Override
+    public String getText() {
+        timingService.startTiming("Get Text", target);
+        String text;
+        try {
+            text = element.getText();
+        } catch (RuntimeException e) {
+            timingService.endTiming("Get Text", target, false, e.toString());
+            throw e;
+        }
+        timingService.endTiming("Get Text", target, true);
+        return text;
+    }
+
+    @Override
+    public void submit() {
+        element.submit();
+    }
+
+    @Override
+    public void clear() {
+        element.clear();
+    }
+
+    @Override
+    public String getTagName() {
+        return element.getTagName();
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return element.getDomProperty(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return element.getDomAttribute(name);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String getAttribute(String name) {
+        return element.getAttribute(name);
+    }
+
+    @Override
+    public String getAriaRole() {
+        return element.getAriaRole();
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return element.getAccessibleName();
+    }
+
+    @Override
+    public boolean isSelected() {
+        return element.isSelected();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return element.isEnabled();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return InstrumentedWebDriver.wrap(element.findElements(by), by.toString(), timingService);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return new InstrumentedWebElement(element.findElement(by), by.toString(), timingService);
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return element.getShadowRoot();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return element.isDisplayed();
+    }
+
+    @Override
+    public Point getLocation() {
+        return element.getLocation();
+    }
+
+    @Override
+    public Dimension getSize() {
+        return element.getSize();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return element.getRect();
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return element.getCssValue(propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return element.getScreenshotAs(target);
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return target;
+    }
+}
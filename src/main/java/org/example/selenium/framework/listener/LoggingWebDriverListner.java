@@ -9,8 +9,20 @@ import java.lang.reflect.Method;
 public class LoggingWebDriverListner implements WebDriverListener {
     private static final Logger log = LoggerFactory.getLogger(LoggingWebDriverListner.class);
 
+    /**
+     * Whether the listener would log anything. When trace logging is off it does not need to be registered at all.
+     *
+     * @return true if trace logging is enabled for this listener
+     */
+    public static boolean isEnabled() {
+        return log.isTraceEnabled();
+    }
+
     @Override
     public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!log.isTraceEnabled()) {
+            return;
+        }
         log.trace("Webdriver call: {}.{}({})",
                 target.getClass().getSimpleName(),
                 method.getName(),
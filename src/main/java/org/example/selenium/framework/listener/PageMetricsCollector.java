@@ -0,0 +1,101 @@
+package org.example.selenium.framework.listener;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads Navigation Timing, Resource Timing and Web Vitals of the current page with a single script call.
+ * <p>
+ * Times are in milliseconds relative to the start of the navigation, sizes in bytes and CLS is unitless:
+ * ttfb, domContentLoaded, loadEvent, fcp, lcp, cls, transferBytes, resourceCount, resourceTransferBytes.
+ * LCP and CLS are read from buffered performance entries, so they reflect the page as it was when the
+ * navigation returned. Metrics the browser doesn't support are left out.
+ * </p>
+ */
+public class PageMetricsCollector {
+    private static final Logger log = LoggerFactory.getLogger(PageMetricsCollector.class);
+
+    private static final String SCRIPT = """
+            var metrics = {};
+            var navigation = performance.getEntriesByType('navigation')[0];
+            if (navigation) {
+                metrics.ttfb = navigation.responseStart - navigation.startTime;
+                metrics.domContentLoaded = navigation.domContentLoadedEventEnd - navigation.startTime;
+                metrics.loadEvent = navigation.loadEventEnd - navigation.startTime;
+                metrics.transferBytes = navigation.transferSize;
+            }
+            var resources = performance.getEntriesByType('resource');
+            metrics.resourceCount = resources.length;
+            metrics.resourceTransferBytes = resources.reduce(function (total, entry) { return total + (entry.transferSize || 0); }, 0);
+            var fcp = performance.getEntriesByName('first-contentful-paint')[0];
+            if (fcp) {
+                metrics.fcp = fcp.startTime;
+            }
+            var supported = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];
+            function buffered(type) {
+                var observer = new PerformanceObserver(function () {});
+                observer.observe({type: type, buffered: true});
+                var entries = observer.takeRecords();
+                observer.disconnect();
+                return entries;
+            }
+            if (supported.indexOf('largest-contentful-paint') >= 0) {
+                var lcp = buffered('largest-contentful-paint');
+                if (lcp.length > 0) {
+                    metrics.lcp = lcp[lcp.length - 1].startTime;
+                }
+            }
+            if (supported.indexOf('layout-shift') >= 0) {
+                metrics.cls = buffered('layout-shift')
+                    .filter(function (entry) { return !entry.hadRecentInput; })
+                    .reduce(function (total, entry) { return total + entry.value; }, 0);
+            }
+            return metrics;
+            """;
+
+    /**
+     * Whether page metrics are collected after each navigation.
+     *
+     * @return true if page.metrics.enabled is set
+     */
+    public static boolean isEnabled() {
+        return FrameworkConfig.INSTANCE.getConfigAsBoolean("page.metrics.enabled");
+    }
+
+    /**
+     * Collect the metrics of the page currently loaded in the driver.
+     * Failures are logged and result in no metrics, they never fail the navigation.
+     *
+     * @param driver The driver to read the metrics from
+     * @return Unmodifiable map of metric name to value, sorted by name
+     */
+    public static Map<String, Double> collect(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor javascriptExecutor)) {
+            return Map.of();
+        }
+        try {
+            Object result = javascriptExecutor.executeScript(SCRIPT);
+            if (!(result instanceof Map<?, ?> values)) {
+                return Map.of();
+            }
+            Map<String, Double> metrics = new TreeMap<>();
+            values.forEach((name, value) -> {
+                if (value instanceof Number number) {
+                    metrics.put(name.toString(), number.doubleValue());
+                }
+            });
+            return Collections.unmodifiableMap(metrics);
+        } catch (WebDriverException e) {
+            log.debug("Failed to collect page metrics", e);
+            return Map.of();
+        }
+    }
+}
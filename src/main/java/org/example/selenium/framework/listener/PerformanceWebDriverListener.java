@@ -17,6 +17,7 @@ import java.util.List;
  */
 public class PerformanceWebDriverListener implements WebDriverListener {
     private final TimingService timingService;
+    private final boolean collectPageMetrics = PageMetricsCollector.isEnabled();
     
     // Using ThreadLocal instead of ConcurrentMap for better performance and cleaner code
     private final ThreadLocal<Boolean> inExplicitWait = ThreadLocal.withInitial(() -> false);
@@ -66,25 +67,27 @@ public class PerformanceWebDriverListener implements WebDriverListener {
 
     @Override
     public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Failed operations are ended with the same operation name and target they were started with,
+        // otherwise the started operation would stay open and swallow all following spans as its children
+        String errorMessage = e.getTargetException().toString();
+
         // Handle WebDriverWait timeout errors
         if (target instanceof WebDriverWait && "until".equals(method.getName())) {
             inExplicitWait.set(false);
-            String errorMessage = e.getTargetException().toString();
             String waitDescription = extractWaitDescription(args);
-            after("Explicit Wait", waitDescription + " - " + e.getTargetException().getClass().getSimpleName(), false, errorMessage);
+            after("Explicit Wait", waitDescription, false, errorMessage);
         }
         // Handle WebDriver errors
         else if (target instanceof WebDriver) {
-            String operation = method.getName();
+            if ("findElements".equals(method.getName()) && inExplicitWait.get()) {
+                return;
+            }
             String targetDesc = args != null && args.length > 0 ? args[0].toString() : "unknown";
-            after(operation, targetDesc, false, e.getTargetException().toString());
+            after(operationName(method), targetDesc, false, errorMessage);
         }
         // Handle WebElement errors
         else if (target instanceof WebElement) {
-            String operation = method.getName();
-            String targetDesc = target.toString();
-            String errorMessage = e.getTargetException().toString();
-            after(operation, targetDesc + " - " + e.getTargetException().getClass().getSimpleName(), false, errorMessage);
+            after(operationName(method), target.toString(), false, errorMessage);
         }
     }
 
@@ -95,7 +98,11 @@ public class PerformanceWebDriverListener implements WebDriverListener {
 
     @Override
     public void afterGet(WebDriver driver, String url) {
-        after("Navigate to URL", url, true);
+        if (collectPageMetrics) {
+            timingService.endTiming("Navigate to URL", url, true, null, () -> PageMetricsCollector.collect(driver));
+        } else {
+            after("Navigate to URL", url, true);
+        }
     }
 
     @Override
@@ -129,7 +136,7 @@ public class PerformanceWebDriverListener implements WebDriverListener {
 
     @Override
     public void afterSendKeys(WebElement element, CharSequence... keysToSend) {
-        after("Send Keys", element.toString() + " - " + String.join("", keysToSend), true);
+        after("Send Keys", element.toString(), true, String.join("", keysToSend));
     }
 
     @Override
@@ -142,6 +149,20 @@ public class PerformanceWebDriverListener implements WebDriverListener {
         after("Get Text", element.toString(), true);
     }
 
+    /**
+     * Maps an intercepted method to the operation name it is timed under.
+     */
+    private String operationName(Method method) {
+        return switch (method.getName()) {
+            case "get" -> "Navigate to URL";
+            case "findElements" -> "Find Elements";
+            case "click" -> "Click Element";
+            case "sendKeys" -> "Send Keys";
+            case "getText" -> "Get Text";
+            default -> method.getName();
+        };
+    }
+
     private String extractWaitDescription(Object[] args) {
         if (args != null && args.length > 0) {
             // The first argument to until() is typically the ExpectedCondition or Function
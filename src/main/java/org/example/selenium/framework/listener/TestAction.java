@@ -1,23 +1,49 @@
 package org.example.selenium.framework.listener;
 
+import java.util.Map;
+
 public record TestAction(
         String action,
         String target,
         long startTimestamp,
         long endTimestamp,
         boolean success,
-        String detailMsg
+        String detailMsg,
+        long transportMicros,
+        long spanId,
+        long parentSpanId,
+        Map<String, Double> metrics
 ) {
+    public TestAction(String action, String target, long startTimestamp, long endTimestamp, boolean success, String detailMsg,
+                      long transportMicros, long spanId, long parentSpanId) {
+        this(action, target, startTimestamp, endTimestamp, success, detailMsg, transportMicros, spanId, parentSpanId, Map.of());
+    }
+
+    public TestAction(String action, String target, long startTimestamp, long endTimestamp, boolean success, String detailMsg) {
+        this(action, target, startTimestamp, endTimestamp, success, detailMsg, 0, 0, 0);
+    }
+
     public TestAction(String action, String target, long startTimestamp, long endTimestamp, boolean success) {
         this(action, target, startTimestamp, endTimestamp, success, null);
     }
 
+    /**
+     * The action type: the action without suffixes such as " (Failed)". Budgets and the timing history group
+     * actions by it.
+     */
+    public String type() {
+        int suffix = action.indexOf(" (");
+        return suffix < 0 ? action : action.substring(0, suffix);
+    }
+
     @Override
     public String toString() {
         String status = success ? "✅" : "❌";
         String timing = String.format("%dms", (endTimestamp - startTimestamp));
+        String transportInfo = transportMicros > 0 ? String.format(" (transport %.1fms)", transportMicros / 1000.0) : "";
         String detailInfo = detailMsg != null ? " | " + detailMsg : "";
+        String metricsInfo = metrics.isEmpty() ? "" : " | " + metrics;
 
-        return String.format("  %s %s: '%s' | %s%s", status, action, target, timing, detailInfo);
+        return String.format("  %s %s: '%s' | %s%s%s%s", status, action, target, timing, transportInfo, detailInfo, metricsInfo);
     }
 }
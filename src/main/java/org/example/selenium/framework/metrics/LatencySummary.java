@@ -0,0 +1,23 @@
+package org.example.selenium.framework.metrics;
+
+/**
+ * Latency percentiles of one action type, or of one action type on one target, across the whole run.
+ * Target is null for the action type as a whole. All durations are in milliseconds.
+ */
+public record LatencySummary(String action, String target, long count, long failures,
+                             double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    static LatencySummary of(String action, String target, LatencyHistogram.Snapshot snapshot) {
+        return new LatencySummary(action, target, snapshot.getCount(), snapshot.getFailures(),
+                snapshot.getPercentileMicros(50) / 1000.0,
+                snapshot.getPercentileMicros(90) / 1000.0,
+                snapshot.getPercentileMicros(99) / 1000.0,
+                snapshot.getMaxMicros() / 1000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("  %s%s: count=%d, failed=%d, p50=%.1fms, p90=%.1fms, p99=%.1fms, max=%.1fms",
+                action, target != null ? " '" + target + "'" : "", count, failures, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+}
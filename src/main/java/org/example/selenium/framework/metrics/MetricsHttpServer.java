@@ -0,0 +1,125 @@
+package org.example.selenium.framework.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.selenium.framework.results.TestStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Embedded HTTP endpoint exposing the live {@link RunMetrics} in the Prometheus text exposition format.
+ * Scrapes only read atomic counters and copy histogram buckets, so they never contend with running tests.
+ */
+public class MetricsHttpServer {
+    private static final Logger log = LoggerFactory.getLogger(MetricsHttpServer.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] BUCKET_BOUNDS_SECONDS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+
+    private final HttpServer server;
+    private final RunMetrics metrics;
+
+    private MetricsHttpServer(HttpServer server, RunMetrics metrics) {
+        this.server = server;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Start the endpoint. Metrics are served at {@code /metrics}.
+     *
+     * @param port The port to listen on
+     * @param metrics The metrics to expose
+     * @return The running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static MetricsHttpServer start(int port, RunMetrics metrics) throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        MetricsHttpServer metricsServer = new MetricsHttpServer(httpServer, metrics);
+        httpServer.createContext("/metrics", metricsServer::handle);
+        httpServer.start();
+        log.info("Metrics endpoint started: http://localhost:{}/metrics", port);
+        return metricsServer;
+    }
+
+    public void stop() {
+        server.stop(0);
+        log.debug("Metrics endpoint stopped");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = render().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder(4096);
+
+        gauge(out, "selenium_tests_active", "Tests currently executing", metrics.getActiveTests());
+        gauge(out, "selenium_tests_queued", "Tests waiting for a browser session permit", metrics.getQueuedTests());
+        gauge(out, "selenium_session_permits_in_use", "Browser session permits currently held", metrics.getPermitsInUse());
+        gauge(out, "selenium_session_permits", "Maximum number of concurrent browser sessions", metrics.getPermitLimit());
+
+        header(out, "selenium_tests_total", "Finished tests by status", "counter");
+        for (TestStatus status : TestStatus.values()) {
+            out.append("selenium_tests_total{status=\"").append(status.name().toLowerCase(Locale.ROOT)).append("\"} ")
+                    .append(metrics.getTestResultCount(status)).append('\n');
+        }
+
+        header(out, "selenium_driver_startup_seconds", "Time to create a browser session", "histogram");
+        histogram(out, "selenium_driver_startup_seconds", "", metrics.getDriverStartup().snapshot());
+
+        header(out, "selenium_action_duration_seconds", "Duration of timed actions by action type", "histogram");
+        metrics.getActionLatencies().forEach((action, histogram) ->
+                histogram(out, "selenium_action_duration_seconds", "action=\"" + escape(action) + "\",", histogram.snapshot()));
+
+        header(out, "selenium_action_failures_total", "Failed timed actions by action type", "counter");
+        metrics.getActionLatencies().forEach((action, histogram) ->
+                out.append("selenium_action_failures_total{action=\"").append(escape(action)).append("\"} ")
+                        .append(histogram.snapshot().getFailures()).append('\n'));
+
+        return out.toString();
+    }
+
+    private void gauge(StringBuilder out, String name, String help, long value) {
+        header(out, name, help, "gauge");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void histogram(StringBuilder out, String name, String labels, LatencyHistogram.Snapshot snapshot) {
+        long[] cumulative = new long[BUCKET_BOUNDS_SECONDS.length];
+        snapshot.forEachBucket((upperBoundMicros, count) -> {
+            for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+                if (upperBoundMicros <= BUCKET_BOUNDS_SECONDS[i] * 1_000_000) {
+                    cumulative[i] += count;
+                }
+            }
+        });
+
+        for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+            out.append(name).append("_bucket{").append(labels).append("le=\"").append(BUCKET_BOUNDS_SECONDS[i]).append("\"} ")
+                    .append(cumulative[i]).append('\n');
+        }
+        out.append(name).append("_bucket{").append(labels).append("le=\"+Inf\"} ").append(snapshot.getCount()).append('\n');
+        String sampleLabels = labels.isEmpty() ? "" : "{" + labels.substring(0, labels.length() - 1) + "}";
+        out.append(name).append("_sum").append(sampleLabels).append(' ').append(snapshot.getSumMicros() / 1_000_000.0).append('\n');
+        out.append(name).append("_count").append(sampleLabels).append(' ').append(snapshot.getCount()).append('\n');
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.selenium.framework.metrics;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.results.TestStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Run-wide metrics shared by all sessions.
+ * Every timed action is recorded into a latency histogram of its action type and, when
+ * {@code metrics.histogram.byTarget} is enabled, also into a histogram of its action type and target.
+ * The runner additionally reports scheduling gauges, driver startup times and test outcomes.
+ * All values are plain atomics, so reading them never blocks the threads that record them.
+ */
+public enum RunMetrics {
+    INSTANCE;
+
+    private final ConcurrentMap<String, LatencyHistogram> actionLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> targetLatencies = new ConcurrentHashMap<>();
+    private final boolean byTarget = FrameworkConfig.INSTANCE.getConfigAsBoolean("metrics.histogram.byTarget");
+    private final int maxTargetsPerAction = FrameworkConfig.INSTANCE.getConfigAsInt("metrics.histogram.maxTargets", 1000);
+
+    private final LatencyHistogram driverStartup = new LatencyHistogram();
+    private final AtomicInteger queuedTests = new AtomicInteger();
+    private final AtomicInteger activeTests = new AtomicInteger();
+    private final AtomicInteger permitsInUse = new AtomicInteger();
+    private final AtomicInteger permitLimit = new AtomicInteger();
+    private final Map<TestStatus, LongAdder> testResults = new EnumMap<>(TestStatus.class);
+
+    RunMetrics() {
+        for (TestStatus status : TestStatus.values()) {
+            testResults.put(status, new LongAdder());
+        }
+    }
+
+    /**
+     * Record a completed action.
+     *
+     * @param action The action type (e.g., "Click Element")
+     * @param target The target of the action (e.g., locator string or URL)
+     * @param durationNanos Duration of the action in nanoseconds
+     * @param success Whether the action was successful
+     */
+    public void recordAction(String action, String target, long durationNanos, boolean success) {
+        long micros = durationNanos / 1_000;
+        actionLatencies.computeIfAbsent(action, key -> new LatencyHistogram()).record(micros, success);
+
+        if (byTarget && target != null) {
+            ConcurrentMap<String, LatencyHistogram> targets = targetLatencies.computeIfAbsent(action, key -> new ConcurrentHashMap<>());
+            LatencyHistogram histogram = targets.get(target);
+            if (histogram == null) {
+                // Keep memory bounded when targets are unique (e.g., generated URLs)
+                if (targets.size() >= maxTargetsPerAction) {
+                    return;
+                }
+                histogram = targets.computeIfAbsent(target, key -> new LatencyHistogram());
+            }
+            histogram.record(micros, success);
+        }
+    }
+
+    /**
+     * Whether recorded actions are also kept per target, so callers can skip rendering a target nobody reads.
+     */
+    public boolean isRecordingTargets() {
+        return byTarget;
+    }
+
+    /**
+     * Record the time it took to create a browser session.
+     *
+     * @param durationNanos Duration of the session creation in nanoseconds
+     * @param success Whether the session was created
+     */
+    public void recordDriverStartup(long durationNanos, boolean success) {
+        driverStartup.record(durationNanos / 1_000, success);
+    }
+
+    public void onPermitRequested() {
+        queuedTests.incrementAndGet();
+    }
+
+    /**
+     * A test stopped waiting for a permit without getting one, e.g. because its thread was interrupted.
+     */
+    public void onPermitAbandoned() {
+        queuedTests.decrementAndGet();
+    }
+
+    public void onPermitAcquired() {
+        queuedTests.decrementAndGet();
+        permitsInUse.incrementAndGet();
+    }
+
+    public void onPermitReleased() {
+        permitsInUse.decrementAndGet();
+    }
+
+    public void onTestStarted() {
+        activeTests.incrementAndGet();
+    }
+
+    public void onTestEnded() {
+        activeTests.decrementAndGet();
+    }
+
+    public void recordTestResult(TestStatus status) {
+        testResults.get(status).increment();
+    }
+
+    public void setPermitLimit(int limit) {
+        permitLimit.set(limit);
+    }
+
+    public int getQueuedTests() {
+        return queuedTests.get();
+    }
+
+    public int getActiveTests() {
+        return activeTests.get();
+    }
+
+    public int getPermitsInUse() {
+        return permitsInUse.get();
+    }
+
+    public int getPermitLimit() {
+        return permitLimit.get();
+    }
+
+    public long getTestResultCount(TestStatus status) {
+        return testResults.get(status).sum();
+    }
+
+    public LatencyHistogram getDriverStartup() {
+        return driverStartup;
+    }
+
+    /**
+     * Get the latency histograms per action type.
+     *
+     * @return Unmodifiable view of the histograms keyed by action type
+     */
+    public Map<String, LatencyHistogram> getActionLatencies() {
+        return Collections.unmodifiableMap(actionLatencies);
+    }
+
+    /**
+     * Summarise all histograms.
+     *
+     * @return Summaries per action type, followed by summaries per target if enabled, sorted by action
+     */
+    public List<LatencySummary> latencySummaries() {
+        List<LatencySummary> summaries = new ArrayList<>();
+        actionLatencies.forEach((action, histogram) -> summaries.add(LatencySummary.of(action, null, histogram.snapshot())));
+        targetLatencies.forEach((action, targets) -> targets.forEach((target, histogram) ->
+                summaries.add(LatencySummary.of(action, target, histogram.snapshot()))));
+
+        summaries.sort(Comparator.comparing(LatencySummary::action)
+                .thenComparing(LatencySummary::target, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return summaries;
+    }
+
+    /**
+     * Discard all recorded metrics.
+     */
+    public void reset() {
+        actionLatencies.clear();
+        targetLatencies.clear();
+    }
+}
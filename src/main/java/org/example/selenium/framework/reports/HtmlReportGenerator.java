@@ -0,0 +1,149 @@
+package org.example.selenium.framework.reports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.reports.dto.ActionMetricsDTO;
+import org.example.selenium.framework.reports.dto.TestActionDTO;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes an HTML report: a static index page, a compact index of all tests and the action timelines in
+ * separate chunk files that the page loads when a test is expanded.
+ * <p>
+ * Data files are JavaScript (a JSON payload passed to a callback) rather than plain JSON, because browsers
+ * don't allow fetching local files from a page opened from the file system, while script tags still work.
+ * </p>
+ */
+public class HtmlReportGenerator implements ReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(HtmlReportGenerator.class);
+    private static final String TEMPLATE = "/reports/html/index.html";
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Path outputDirectory;
+    private final int chunkSize;
+
+    public HtmlReportGenerator(ReportOutput output) {
+        this(output.directory("html"),
+                FrameworkConfig.INSTANCE.getConfigAsInt("report.html.chunkSize", 200));
+    }
+
+    public HtmlReportGenerator(Path outputDirectory, int chunkSize) {
+        this.outputDirectory = outputDirectory;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public void generate(TestRunDTO testRun) {
+        try {
+            Path dataDirectory = outputDirectory.resolve("data");
+            Files.createDirectories(dataDirectory);
+            try (InputStream template = HtmlReportGenerator.class.getResourceAsStream(TEMPLATE)) {
+                if (template == null) {
+                    throw new IOException("HTML report template not found: " + TEMPLATE);
+                }
+                Files.copy(template, outputDirectory.resolve("index.html"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            writeIndex(dataDirectory.resolve("index.js"), testRun);
+
+            List<TestResultDTO> results = testRun.getTestResults();
+            for (int chunk = 0; chunk * chunkSize < results.size(); chunk++) {
+                int from = chunk * chunkSize;
+                writeChunk(dataDirectory.resolve("actions-" + chunk + ".js"), chunk, results.subList(from, Math.min(results.size(), from + chunkSize)));
+            }
+            log.info("HTML report generated successfully: {}", outputDirectory.resolve("index.html"));
+        } catch (IOException e) {
+            log.error("Failed to write HTML report", e);
+        }
+    }
+
+    private void writeIndex(Path file, TestRunDTO testRun) throws IOException {
+        Map<String, Integer> statusCounts = new TreeMap<>();
+        testRun.getTestResults().forEach(result -> statusCounts.merge(result.getStatus(), 1, Integer::sum));
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            generator.writeRaw("window.__reportIndex = ");
+            generator.writeStartObject();
+            generator.writeNumberField("generated", System.currentTimeMillis());
+            generator.writeNumberField("chunkSize", chunkSize);
+
+            generator.writeObjectFieldStart("statuses");
+            for (Map.Entry<String, Integer> status : statusCounts.entrySet()) {
+                generator.writeNumberField(status.getKey(), status.getValue());
+            }
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("tests");
+            for (TestResultDTO result : testRun.getTestResults()) {
+                generator.writeStartArray();
+                generator.writeString(result.getTestName());
+                generator.writeString(result.getStatus());
+                generator.writeNumber(result.getStartTimestamp());
+                generator.writeNumber(result.getEndTimestamp() - result.getStartTimestamp());
+                generator.writeString(result.getError());
+                generator.writeNumber(result.getTestActions().size());
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("metrics");
+            for (ActionMetricsDTO metric : testRun.getMetrics()) {
+                if (metric.getTarget() != null) {
+                    continue;
+                }
+                generator.writeStartArray();
+                generator.writeString(metric.getAction());
+                generator.writeNumber(metric.getCount());
+                generator.writeNumber(metric.getFailures());
+                generator.writeNumber(round(metric.getP50Millis()));
+                generator.writeNumber(round(metric.getP90Millis()));
+                generator.writeNumber(round(metric.getP99Millis()));
+                generator.writeNumber(round(metric.getMaxMillis()));
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+            generator.writeRaw(";\n");
+        }
+    }
+
+    private void writeChunk(Path file, int chunk, List<TestResultDTO> results) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            generator.writeRaw("window.__reportActions(" + chunk + ", ");
+            generator.writeStartArray();
+            for (TestResultDTO result : results) {
+                generator.writeStartArray();
+                for (TestActionDTO action : result.getTestActions()) {
+                    generator.writeStartArray();
+                    generator.writeString(action.getAction());
+                    generator.writeString(action.getTarget());
+                    generator.writeNumber(action.getStartTimestamp() - result.getStartTimestamp());
+                    generator.writeNumber(action.getEndTimestamp() - action.getStartTimestamp());
+                    generator.writeBoolean(action.isSuccess());
+                    generator.writeString(action.getDetailMsg());
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeRaw(");\n");
+        }
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 10) / 10.0;
+    }
+}
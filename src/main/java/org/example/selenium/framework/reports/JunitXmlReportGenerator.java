@@ -0,0 +1,231 @@
+package org.example.selenium.framework.reports;
+
+import org.example.selenium.framework.reports.dto.ScreenshotRefDTO;
+import org.example.selenium.framework.reports.dto.TestActionDTO;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the run as JUnit XML, one testsuite per test class, with the action timeline of each test in its system-out.
+ * The document is written with a streaming XML writer straight to the file; besides the run itself only the
+ * indexes of the tests of each class are kept in memory.
+ */
+public class JunitXmlReportGenerator implements ReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(JunitXmlReportGenerator.class);
+    private static final String OUTPUT_FILE = "junit-results.xml";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.UTC);
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+    private final ReportOutput output;
+
+    public JunitXmlReportGenerator(ReportOutput output) {
+        this.output = output;
+    }
+
+    @Override
+    public void generate(TestRunDTO testRun) {
+        // The results may be mapped and read back from disk on each access, so the counts and durations of the
+        // suites are collected in a single pass and each result is read once more when its testcase is written
+        List<TestResultDTO> results = testRun.getTestResults();
+        Suite total = new Suite("Selenium tests");
+        Map<String, Suite> suites = new LinkedHashMap<>();
+        int index = 0;
+        for (TestResultDTO result : results) {
+            total.add(index, result);
+            suites.computeIfAbsent(className(result), Suite::new).add(index, result);
+            index++;
+        }
+
+        try (OutputStream out = output.open(OUTPUT_FILE)) {
+            XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeStartElement("testsuites");
+            writeCounts(writer, total);
+
+            for (Suite suite : suites.values()) {
+                writer.writeStartElement("testsuite");
+                writeCounts(writer, suite);
+                writer.writeAttribute("timestamp", TIMESTAMP.format(Instant.ofEpochMilli(suite.firstStart).truncatedTo(ChronoUnit.SECONDS)));
+                for (TestResultDTO result : suite.results(results)) {
+                    writeTestCase(writer, suite.name, result);
+                }
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+            log.info("JUnit XML report generated successfully: {}", output.resolve(OUTPUT_FILE));
+        } catch (IOException | XMLStreamException e) {
+            log.error("Failed to write JUnit XML report to file", e);
+        }
+    }
+
+    private void writeCounts(XMLStreamWriter writer, Suite suite) throws XMLStreamException {
+        writer.writeAttribute("name", suite.name);
+        writer.writeAttribute("tests", String.valueOf(suite.indexes.size()));
+        writer.writeAttribute("failures", String.valueOf(suite.failures));
+        writer.writeAttribute("errors", "0");
+        writer.writeAttribute("skipped", String.valueOf(suite.skipped));
+        writer.writeAttribute("time", seconds(suite.millis));
+    }
+
+    private void writeTestCase(XMLStreamWriter writer, String className, TestResultDTO result) throws XMLStreamException {
+        writer.writeStartElement("testcase");
+        writer.writeAttribute("name", result.getTestName().substring(result.getTestName().lastIndexOf('.') + 1));
+        writer.writeAttribute("classname", className);
+        writer.writeAttribute("time", seconds(duration(result)));
+
+        switch (result.getStatus()) {
+            case "FAILED" -> writeOutcome(writer, "failure", result.getError(), exceptionType(result.getError()));
+            case "BUDGET_EXCEEDED" -> writeOutcome(writer, "failure", result.getError(), "PerformanceBudget");
+            case "SKIPPED" -> writeOutcome(writer, "skipped", result.getError(), null);
+            default -> {
+            }
+        }
+
+        List<ScreenshotRefDTO> screenshots = result.getScreenshots() != null ? result.getScreenshots() : List.of();
+        if (!result.getTestActions().isEmpty() || !screenshots.isEmpty()) {
+            writer.writeStartElement("system-out");
+            for (TestActionDTO action : result.getTestActions()) {
+                writer.writeCharacters(sanitize(formatAction(result, action)));
+                writer.writeCharacters("\n");
+            }
+            // Attachment lines as understood by CI servers that show JUnit attachments
+            for (ScreenshotRefDTO screenshot : screenshots) {
+                writer.writeCharacters(sanitize("[[ATTACHMENT|" + Paths.get(screenshot.getPath()).toAbsolutePath() + "]]"));
+                writer.writeCharacters("\n");
+            }
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeOutcome(XMLStreamWriter writer, String element, String message, String type) throws XMLStreamException {
+        writer.writeStartElement(element);
+        if (message != null) {
+            writer.writeAttribute("message", sanitize(message));
+        }
+        if (type != null) {
+            writer.writeAttribute("type", type);
+        }
+        writer.writeEndElement();
+    }
+
+    /**
+     * One line of the action timeline: offset from the start of the test, outcome, action, target and duration.
+     */
+    private String formatAction(TestResultDTO result, TestActionDTO action) {
+        StringBuilder line = new StringBuilder()
+                .append(String.format(Locale.ROOT, "[+%6dms] %s %s '%s' %dms",
+                        action.getStartTimestamp() - result.getStartTimestamp(),
+                        action.isSuccess() ? "OK  " : "FAIL",
+                        action.getAction(),
+                        action.getTarget(),
+                        action.getEndTimestamp() - action.getStartTimestamp()));
+        if (action.getDetailMsg() != null) {
+            line.append(" | ").append(action.getDetailMsg());
+        }
+        return line.toString();
+    }
+
+    /**
+     * The exception class of an error recorded as Throwable.toString(), e.g. "java.lang.AssertionError: ...".
+     */
+    private static String exceptionType(String error) {
+        if (error == null) {
+            return null;
+        }
+        int separator = error.indexOf(':');
+        return separator < 0 ? error : error.substring(0, separator);
+    }
+
+    /**
+     * Counts of the tests of one testsuite and their positions in the run.
+     */
+    private static final class Suite {
+        private final String name;
+        private final List<Integer> indexes = new ArrayList<>();
+        private int failures;
+        private int skipped;
+        private long millis;
+        private long firstStart = Long.MAX_VALUE;
+
+        private Suite(String name) {
+            this.name = name;
+        }
+
+        private void add(int index, TestResultDTO result) {
+            indexes.add(index);
+            switch (result.getStatus()) {
+                case "FAILED", "BUDGET_EXCEEDED" -> failures++;
+                case "SKIPPED" -> skipped++;
+                default -> {
+                }
+            }
+            millis += duration(result);
+            firstStart = Math.min(firstStart, result.getStartTimestamp());
+        }
+
+        /**
+         * The results of the suite, read in order. Tests of a class usually run next to each other, then the
+         * range of the run is iterated sequentially instead of accessing each position.
+         */
+        private Iterable<TestResultDTO> results(List<TestResultDTO> run) {
+            int first = indexes.get(0);
+            int last = indexes.get(indexes.size() - 1);
+            if (last - first + 1 == indexes.size()) {
+                return run.subList(first, last + 1);
+            }
+            return () -> indexes.stream().map(run::get).iterator();
+        }
+    }
+
+    private static String className(TestResultDTO result) {
+        int separator = result.getTestName().lastIndexOf('.');
+        return separator < 0 ? result.getTestName() : result.getTestName().substring(0, separator);
+    }
+
+    private static long duration(TestResultDTO result) {
+        return Math.max(0, result.getEndTimestamp() - result.getStartTimestamp());
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+
+    /**
+     * Drop characters that are not allowed in XML 1.0, such as control characters in exception messages.
+     */
+    private static String sanitize(String text) {
+        StringBuilder sanitized = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean allowed = c == '\t' || c == '\n' || c == '\r' || (c >= 0x20 && c <= 0xD7FF) || (c >= 0xE000 && c <= 0xFFFD)
+                    || Character.isSurrogate(c);
+            if (!allowed && sanitized == null) {
+                sanitized = new StringBuilder(text.length()).append(text, 0, i);
+            } else if (allowed && sanitized != null) {
+                sanitized.append(c);
+            }
+        }
+        return sanitized != null ? sanitized.toString() : text;
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.selenium.framework.reports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes the run to test-results.ndjson as JSON lines: a start line, one line per test result as soon as it completes and a summary
+ * line at the end. Every line is flushed once written, so the file holds all completed tests even if the run
+ * is killed; only a line being written at that moment can be incomplete.
+ * Each line has a "type" field: start, result or summary.
+ */
+public class NdjsonReportGenerator implements StreamingReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(NdjsonReportGenerator.class);
+    private static final String OUTPUT_FILE = "test-results.ndjson";
+    private final ObjectMapper objectMapper;
+    private final ReportOutput output;
+    // Results are written from test threads, which may be virtual: a lock, unlike synchronized, doesn't pin their
+    // carrier thread during the file I/O
+    private final ReentrantLock lock = new ReentrantLock();
+    private JsonGenerator generator;
+
+    public NdjsonReportGenerator(ReportOutput output) {
+        this.output = output;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+
+    @Override
+    public void onStart() {
+        lock.lock();
+        try {
+            generator = objectMapper.getFactory().createGenerator(output.open(OUTPUT_FILE), JsonEncoding.UTF8);
+            // Lines are terminated explicitly, no separator in front of the next value
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            generator.writeStartObject();
+            generator.writeStringField("type", "start");
+            generator.writeNumberField("timestamp", System.currentTimeMillis());
+            generator.writeEndObject();
+            endLine();
+        } catch (IOException e) {
+            log.error("Failed to open NDJSON report file", e);
+            generator = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onResult(TestResultDTO testResult) {
+        lock.lock();
+        try {
+            if (generator == null) {
+                return;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("type", "result");
+            generator.writeObjectField("result", testResult);
+            generator.writeEndObject();
+            endLine();
+        } catch (IOException e) {
+            log.error("Failed to write test result {} to NDJSON report", testResult.getTestName(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onFinish(TestRunDTO testRun) {
+        lock.lock();
+        try {
+            if (generator == null) {
+                return;
+            }
+            try {
+                Map<String, Integer> statusCounts = new TreeMap<>();
+                testRun.getTestResults().forEach(result -> statusCounts.merge(result.getStatus(), 1, Integer::sum));
+
+                generator.writeStartObject();
+                generator.writeStringField("type", "summary");
+                generator.writeNumberField("timestamp", System.currentTimeMillis());
+                generator.writeNumberField("tests", testRun.getTestResults().size());
+                generator.writeObjectField("statuses", statusCounts);
+                generator.writeObjectField("metrics", testRun.getMetrics());
+                generator.writeObjectField("pageMetrics", testRun.getPageMetrics());
+                generator.writeObjectField("regressions", testRun.getRegressions());
+                generator.writeObjectField("timeline", testRun.getTimeline());
+                generator.writeEndObject();
+                endLine();
+                log.info("NDJSON report generated successfully: {}", output.resolve(OUTPUT_FILE));
+            } catch (IOException e) {
+                log.error("Failed to write summary to NDJSON report", e);
+            } finally {
+                close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Terminate the current line and push it to disk, so the file always ends with a complete line.
+     */
+    private void endLine() throws IOException {
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    private void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            log.warn("Failed to close NDJSON report file", e);
+        }
+        generator = null;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.selenium.framework.reports;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Where the reports of one run are written: a directory per run under report.directory, named after the start of
+ * the run. With report.compress the report files are gzip compressed while they are written and get a .gz suffix.
+ * The directory is only created once the first report is written.
+ */
+public class ReportOutput {
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final String runId;
+    private final Instant startedAt;
+    private final Path reportDirectory;
+    private final Path runDirectory;
+    private final boolean compress;
+
+    public ReportOutput(Path reportDirectory, Instant startedAt, boolean compress) {
+        this.runId = "run-" + RUN_ID.format(startedAt);
+        this.startedAt = startedAt;
+        this.reportDirectory = reportDirectory;
+        this.runDirectory = reportDirectory.resolve(runId);
+        this.compress = compress;
+    }
+
+    /**
+     * Output for a run starting now, configured by report.directory and report.compress.
+     */
+    public static ReportOutput fromConfig() {
+        return new ReportOutput(Paths.get(FrameworkConfig.INSTANCE.getConfig("report.directory", "target/reports")),
+                Instant.now(), FrameworkConfig.INSTANCE.getConfigAsBoolean("report.compress"));
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Path getReportDirectory() {
+        return reportDirectory;
+    }
+
+    public Path getRunDirectory() {
+        return runDirectory;
+    }
+
+    public boolean isCompressed() {
+        return compress;
+    }
+
+    /**
+     * The path a report file ends up at, including the .gz suffix when compressed.
+     *
+     * @param fileName The file name without compression suffix
+     */
+    public Path resolve(String fileName) {
+        return runDirectory.resolve(compress ? fileName + ".gz" : fileName);
+    }
+
+    /**
+     * Open a report file of this run for writing, compressed if configured. Flushing the returned stream pushes
+     * everything written so far to the file, also when compressed, so streaming reports stay readable.
+     *
+     * @param fileName The file name without compression suffix
+     * @return A buffered stream the caller must close
+     * @throws IOException If the file cannot be created
+     */
+    public OutputStream open(String fileName) throws IOException {
+        Files.createDirectories(runDirectory);
+        OutputStream out = Files.newOutputStream(resolve(fileName));
+        if (compress) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE, true);
+        }
+        return new BufferedOutputStream(out, BUFFER_SIZE);
+    }
+
+    /**
+     * A sub directory of this run for reports made of several files, such as the HTML report. These are never
+     * compressed, so they can be opened directly.
+     *
+     * @param name The directory name
+     * @return The directory, which is not created yet
+     */
+    public Path directory(String name) {
+        return runDirectory.resolve(name);
+    }
+
+    @Override
+    public String toString() {
+        return "ReportOutput{" +
+                "runDirectory=" + runDirectory +
+                ", compress=" + compress +
+                '}';
+    }
+}
@@ -1,58 +1,234 @@
 package org.example.selenium.framework.reports;
 
 import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.reports.archive.ArchiveReportGenerator;
+import org.example.selenium.framework.reports.dto.ActionMetricsDTO;
+import org.example.selenium.framework.reports.dto.PageMetricsDTO;
+import org.example.selenium.framework.reports.dto.RegressionDTO;
 import org.example.selenium.framework.reports.dto.TestResultDTO;
 import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.example.selenium.framework.reports.mappers.LatencySummaryMapper;
+import org.example.selenium.framework.reports.mappers.PageMetricsMapper;
+import org.example.selenium.framework.reports.mappers.RegressionMapper;
+import org.example.selenium.framework.reports.mappers.RunIndexEntryMapper;
+import org.example.selenium.framework.reports.mappers.SchedulingTimelineMapper;
 import org.example.selenium.framework.reports.mappers.TestResultMapper;
+import org.example.selenium.framework.results.TestResult;
 import org.example.selenium.framework.results.TestRun;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class ReportingService {
     private static final Logger log = LoggerFactory.getLogger(ReportingService.class);
     private final List<ReportGenerator> reportGenerators = new ArrayList<>();
+    private final List<StreamingReportGenerator> streamingReportGenerators = new ArrayList<>();
+    private final ReportOutput output;
 
     public ReportingService() {
+        this(ReportOutput.fromConfig());
+    }
+
+    public ReportingService(ReportOutput output) {
+        this.output = output;
         if (FrameworkConfig.INSTANCE.getConfigAsBoolean("report.json")) {
-            register(new JsonReportGenerator());
+            register(new JsonReportGenerator(output));
+        }
+        if (FrameworkConfig.INSTANCE.getConfigAsBoolean("report.html")) {
+            register(new HtmlReportGenerator(output));
+        }
+        if (FrameworkConfig.INSTANCE.getConfigAsBoolean("report.junit")) {
+            register(new JunitXmlReportGenerator(output));
+        }
+        if (FrameworkConfig.INSTANCE.getConfigAsBoolean("report.trace")) {
+            register(new TraceEventReportGenerator(output));
+        }
+        if (FrameworkConfig.INSTANCE.getConfigAsBoolean("report.ndjson")) {
+            register(new NdjsonReportGenerator(output));
         }
+        if (FrameworkConfig.INSTANCE.getConfigAsBoolean("report.archive")) {
+            register(new ArchiveReportGenerator(output));
+        }
+    }
+
+    public ReportOutput getOutput() {
+        return output;
     }
 
-    public void register(ReportGenerator reportGenerator) {
+    public final void register(ReportGenerator reportGenerator) {
         reportGenerators.add(reportGenerator);
     }
 
+    public final void register(StreamingReportGenerator streamingReportGenerator) {
+        streamingReportGenerators.add(streamingReportGenerator);
+    }
+
+    /**
+     * Start the streaming report generators. Must be called before the first test result is published.
+     */
+    public void start() {
+        streamingReportGenerators.forEach(generator -> {
+            try {
+                generator.onStart();
+            } catch (Exception e) {
+                log.error("Failed to start report using {}", generator.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    /**
+     * Hand a completed test result to the streaming report generators. Safe to call from test threads.
+     *
+     * @param testResult The completed test result
+     */
+    public void publish(TestResult testResult) {
+        if (streamingReportGenerators.isEmpty()) {
+            return;
+        }
+        TestResultDTO testResultDTO = TestResultMapper.toDTO(testResult);
+        streamingReportGenerators.forEach(generator -> {
+            try {
+                generator.onResult(testResultDTO);
+            } catch (Exception e) {
+                log.error("Failed to report test result using {}", generator.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    /**
+     * Generate all reports of the run. Generators run concurrently on virtual threads against the same
+     * unmodifiable DTO; each one gets report.generator.timeout seconds and its failure doesn't affect the others.
+     * Afterwards the run is added to the run index of the report directory.
+     *
+     * @param testRun The completed run
+     */
     public void process(TestRun testRun) {
         if (testRun == null || testRun.testResults().isEmpty()) {
             log.warn("No test results to process for reporting.");
+            runGenerators(streamingReportGenerators.stream()
+                    .map(generator -> new GeneratorTask(generator.getClass().getSimpleName(), () -> generator.onFinish(new TestRunDTO(List.of()))))
+                    .toList());
             return;
         }
 
-        if (reportGenerators.isEmpty()){
+        if (reportGenerators.isEmpty() && streamingReportGenerators.isEmpty()){
             log.warn("No report generators registered. Skipping reporting.");
             return;
         }
 
-        log.info("Processing test run for reporting: {}", testRun);
+        log.info("Processing test run for reporting: {} test results", testRun.testResults().size());
         TestRunDTO testRunDTO = toDTO(testRun);
 
-        reportGenerators.forEach(generator -> {
-            try {
-                generator.generate(testRunDTO);
-            } catch (Exception e) {
-                log.error("Failed to generate report using {}", generator.getClass().getSimpleName(), e);
+        List<GeneratorTask> tasks = new ArrayList<>();
+        reportGenerators.forEach(generator ->
+                tasks.add(new GeneratorTask(generator.getClass().getSimpleName(), () -> generator.generate(testRunDTO))));
+        streamingReportGenerators.forEach(generator ->
+                tasks.add(new GeneratorTask(generator.getClass().getSimpleName(), () -> generator.onFinish(testRunDTO))));
+        runGenerators(tasks);
+        updateRunIndex(testRunDTO);
+    }
+
+    private void updateRunIndex(TestRunDTO testRunDTO) {
+        if (!Files.isDirectory(output.getRunDirectory())) {
+            return;
+        }
+        try {
+            RunIndex.fromConfig().record(RunIndexEntryMapper.toDTO(output, testRunDTO, System.currentTimeMillis()));
+            log.info("Reports of run {} written to {}", output.getRunId(), output.getRunDirectory());
+        } catch (IOException e) {
+            log.error("Failed to update run index in {}", output.getReportDirectory(), e);
+        }
+    }
+
+    /**
+     * Run the generators in parallel and wait for each of them at most report.generator.timeout, measured from its
+     * own start. A generator that takes longer is abandoned, not stopped: it is not interrupted, since generators
+     * read the same results, and keeps running in the background while the run finishes without its report.
+     */
+    private void runGenerators(List<GeneratorTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(FrameworkConfig.INSTANCE.getConfigAsInt("report.generator.timeout", 120));
+        // Not closed with try-with-resources: close() would wait for a hung generator
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            AtomicLongArray startNanos = new AtomicLongArray(tasks.size());
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                int taskIndex = i;
+                GeneratorTask task = tasks.get(i);
+                futures.add(executor.submit(() -> {
+                    long taskStartNanos = System.nanoTime();
+                    startNanos.set(taskIndex, taskStartNanos);
+                    task.body().run();
+                    log.info("Report generator {} finished in {}ms", task.name(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - taskStartNanos));
+                }));
             }
-        });
+
+            for (int i = 0; i < tasks.size(); i++) {
+                String name = tasks.get(i).name();
+                Future<?> future = futures.get(i);
+                try {
+                    while (true) {
+                        long started = startNanos.get(i);
+                        long remainingMillis = started == 0
+                                ? timeoutMillis : timeoutMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                        try {
+                            future.get(Math.max(0, remainingMillis), TimeUnit.MILLISECONDS);
+                            break;
+                        } catch (TimeoutException e) {
+                            if (started == 0 && startNanos.get(i) != 0) {
+                                // Started late, its time counts from its own start
+                                continue;
+                            }
+                            log.error("Report generator {} did not finish within {}ms and was abandoned, it may still write its report",
+                                    name, timeoutMillis);
+                            break;
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    log.error("Failed to generate report using {}", name, e.getCause());
+                } catch (InterruptedException e) {
+                    log.error("Interrupted while waiting for report generator {}", name);
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        } finally {
+            // No new generators, the running ones are left alone
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A named unit of report generation.
+     */
+    private record GeneratorTask(String name, Runnable body) {
     }
 
     private TestRunDTO toDTO(TestRun testRun) {
-        List<TestResultDTO> testResultDTOs = testRun.testResults().stream()
-                .map(TestResultMapper::toDTO)
+        List<TestResultDTO> testResultDTOs = TestResultMapper.toDTOView(testRun.testResults());
+        List<ActionMetricsDTO> metricsDTOs = testRun.metrics().stream()
+                .map(LatencySummaryMapper::toDTO)
+                .toList();
+        List<PageMetricsDTO> pageMetricsDTOs = PageMetricsMapper.toDTOs(testRun.testResults());
+        List<RegressionDTO> regressionDTOs = testRun.regressions().stream()
+                .map(RegressionMapper::toDTO)
                 .toList();
-        return new TestRunDTO(testResultDTOs);
+        return new TestRunDTO(testResultDTOs, metricsDTOs, pageMetricsDTOs, regressionDTOs,
+                SchedulingTimelineMapper.toDTO(testRun.timeline()));
     }
 
 
@@ -0,0 +1,137 @@
+package org.example.selenium.framework.reports;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.reports.dto.RunIndexEntryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The index of all runs in the report directory (runs.json), oldest first, so tools can find a run by its
+ * summary without opening every report. Recording a run also applies the retention policy: runs beyond
+ * report.retention.runs or older than report.retention.days are removed from the index and their directories
+ * are deleted. The index is replaced atomically under a file lock, so runs sharing a report directory don't lose
+ * each other's entries.
+ */
+public class RunIndex {
+    private static final Logger log = LoggerFactory.getLogger(RunIndex.class);
+    private static final String INDEX_FILE = "runs.json";
+    private static final String LOCK_FILE = "runs.lock";
+    private static final TypeReference<List<RunIndexEntryDTO>> ENTRIES = new TypeReference<>() {
+    };
+    private final ObjectMapper objectMapper;
+    private final Path reportDirectory;
+    private final int retentionRuns;
+    private final int retentionDays;
+
+    /**
+     * @param reportDirectory The directory holding the run directories and the index
+     * @param retentionRuns Number of most recent runs to keep, 0 to keep all
+     * @param retentionDays Age in days after which runs are removed, 0 to keep them regardless of age
+     */
+    public RunIndex(Path reportDirectory, int retentionRuns, int retentionDays) {
+        this.reportDirectory = reportDirectory;
+        this.retentionRuns = retentionRuns;
+        this.retentionDays = retentionDays;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public static RunIndex fromConfig() {
+        return new RunIndex(Paths.get(FrameworkConfig.INSTANCE.getConfig("report.directory", "target/reports")),
+                FrameworkConfig.INSTANCE.getConfigAsInt("report.retention.runs", 20),
+                FrameworkConfig.INSTANCE.getConfigAsInt("report.retention.days", 0));
+    }
+
+    /**
+     * Read the index.
+     *
+     * @return All indexed runs, oldest first; empty if there is no index yet
+     * @throws IOException If the index cannot be read
+     */
+    public List<RunIndexEntryDTO> read() throws IOException {
+        Path indexFile = reportDirectory.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            return List.of();
+        }
+        return objectMapper.readValue(indexFile.toFile(), ENTRIES);
+    }
+
+    /**
+     * Add a run to the index and prune old runs. The recorded run itself is never pruned.
+     *
+     * @param entry The run to add
+     * @throws IOException If the index cannot be updated
+     */
+    @SuppressWarnings("try")
+    public void record(RunIndexEntryDTO entry) throws IOException {
+        Files.createDirectories(reportDirectory);
+        try (FileChannel lockChannel = FileChannel.open(reportDirectory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            List<RunIndexEntryDTO> entries = new ArrayList<>(read());
+            entries.removeIf(existing -> existing.getRunId().equals(entry.getRunId()));
+            entries.add(entry);
+            entries.sort(Comparator.comparingLong(RunIndexEntryDTO::getStartTimestamp));
+
+            List<RunIndexEntryDTO> pruned = prune(entries, entry);
+            entries.removeAll(pruned);
+
+            Path tempFile = reportDirectory.resolve(INDEX_FILE + ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), entries);
+            Files.move(tempFile, reportDirectory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            for (RunIndexEntryDTO run : pruned) {
+                deleteRunDirectory(run);
+            }
+        }
+    }
+
+    private List<RunIndexEntryDTO> prune(List<RunIndexEntryDTO> entries, RunIndexEntryDTO current) {
+        long oldestKept = retentionDays > 0 ? current.getStartTimestamp() - TimeUnit.DAYS.toMillis(retentionDays) : Long.MIN_VALUE;
+        int excess = retentionRuns > 0 ? entries.size() - retentionRuns : 0;
+        List<RunIndexEntryDTO> pruned = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            RunIndexEntryDTO entry = entries.get(i);
+            if (entry != current && (i < excess || entry.getStartTimestamp() < oldestKept)) {
+                pruned.add(entry);
+            }
+        }
+        return pruned;
+    }
+
+    private void deleteRunDirectory(RunIndexEntryDTO run) {
+        Path root = reportDirectory.toAbsolutePath().normalize();
+        Path directory = root.resolve(run.getDirectory()).normalize();
+        // Never follow an edited index outside of the report directory
+        if (!directory.startsWith(root) || directory.equals(root) || !Files.isDirectory(directory)) {
+            log.warn("Not deleting pruned run {}: {} is not a run directory", run.getRunId(), directory);
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+            log.info("Pruned run {}", run.getRunId());
+        } catch (IOException e) {
+            log.warn("Failed to delete pruned run directory {}", directory, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.selenium.framework.reports;
+
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+
+/**
+ * Report generator that receives test results as they complete instead of once at the end of the run.
+ * Calls to {@link #onResult(TestResultDTO)} can come from several test threads at the same time.
+ */
+public interface StreamingReportGenerator {
+    /**
+     * Called once before the first test runs.
+     */
+    void onStart();
+
+    /**
+     * Called for each test as soon as it has completed.
+     *
+     * @param testResult The result of the test
+     */
+    void onResult(TestResultDTO testResult);
+
+    /**
+     * Called once after all tests have completed, with the run-level data of the run.
+     *
+     * @param testRun The complete run
+     */
+    void onFinish(TestRunDTO testRun);
+}
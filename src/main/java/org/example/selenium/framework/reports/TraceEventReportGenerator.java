@@ -0,0 +1,114 @@
+package org.example.selenium.framework.reports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.selenium.framework.reports.dto.TestActionDTO;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the test run in the Chrome trace-event JSON format, which can be opened in Perfetto or chrome://tracing.
+ * Every test (and so every browser session) gets its own track. The test itself is the root span of the track;
+ * its actions are nested below it by their start and end time.
+ */
+public class TraceEventReportGenerator implements ReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(TraceEventReportGenerator.class);
+    private static final String OUTPUT_FILE = "trace.json";
+    private static final int PROCESS_ID = 1;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ReportOutput output;
+
+    public TraceEventReportGenerator(ReportOutput output) {
+        this.output = output;
+    }
+
+    @Override
+    public void generate(TestRunDTO testRun) {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output.open(OUTPUT_FILE), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("traceEvents");
+
+            writeMetadata(generator, "process_name", 0, "Test run");
+            int trackId = 0;
+            for (TestResultDTO testResult : testRun.getTestResults()) {
+                writeTrack(generator, ++trackId, testResult);
+            }
+
+            generator.writeEndArray();
+            generator.writeStringField("displayTimeUnit", "ms");
+            generator.writeEndObject();
+            log.info("Trace report generated successfully: {}", output.resolve(OUTPUT_FILE));
+        } catch (Exception e) {
+            log.error("Failed to write trace report to file", e);
+        }
+    }
+
+    private void writeTrack(JsonGenerator generator, int trackId, TestResultDTO testResult) throws IOException {
+        writeMetadata(generator, "thread_name", trackId, testResult.getTestName());
+
+        generator.writeStartObject();
+        writeSpan(generator, trackId, testResult.getTestName(), "test", testResult.getStartTimestamp(), testResult.getEndTimestamp());
+        generator.writeObjectFieldStart("args");
+        generator.writeStringField("status", testResult.getStatus());
+        if (testResult.getError() != null) {
+            generator.writeStringField("error", testResult.getError());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+
+        // Parents must precede their children when they start at the same time
+        List<TestActionDTO> actions = new ArrayList<>(testResult.getTestActions());
+        actions.sort(Comparator.comparingLong(TestActionDTO::getStartTimestamp)
+                .thenComparing(TestActionDTO::getEndTimestamp, Comparator.reverseOrder()));
+
+        for (TestActionDTO action : actions) {
+            generator.writeStartObject();
+            writeSpan(generator, trackId, action.getAction(), "action", action.getStartTimestamp(), action.getEndTimestamp());
+            generator.writeObjectFieldStart("args");
+            generator.writeStringField("target", action.getTarget());
+            generator.writeBooleanField("success", action.isSuccess());
+            generator.writeNumberField("transportMicros", action.getTransportMicros());
+            generator.writeNumberField("spanId", action.getSpanId());
+            generator.writeNumberField("parentSpanId", action.getParentSpanId());
+            if (action.getDetailMsg() != null) {
+                generator.writeStringField("detail", action.getDetailMsg());
+            }
+            for (Map.Entry<String, Double> metric : action.getMetrics().entrySet()) {
+                generator.writeNumberField(metric.getKey(), metric.getValue());
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeSpan(JsonGenerator generator, int trackId, String name, String category, long startMillis, long endMillis) throws IOException {
+        generator.writeStringField("name", name);
+        generator.writeStringField("cat", category);
+        generator.writeStringField("ph", "X");
+        generator.writeNumberField("ts", startMillis * 1_000);
+        generator.writeNumberField("dur", Math.max(0, endMillis - startMillis) * 1_000);
+        generator.writeNumberField("pid", PROCESS_ID);
+        generator.writeNumberField("tid", trackId);
+    }
+
+    private void writeMetadata(JsonGenerator generator, String name, int trackId, String value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", name);
+        generator.writeStringField("ph", "M");
+        generator.writeNumberField("pid", PROCESS_ID);
+        generator.writeNumberField("tid", trackId);
+        generator.writeObjectFieldStart("args");
+        generator.writeStringField("name", value);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.selenium.framework.reports.archive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Layout and primitive encodings of the binary run archive.
+ * <p>
+ * An archive starts with {@link #MAGIC} and {@link #VERSION}, followed by the string table (count, then each
+ * string as length-prefixed UTF-8) and the number of tests. Every test then has a header (name, status, error,
+ * start as delta to the previous test's start, duration) and its actions stored column by column: action names,
+ * targets, start deltas (the first to the test start, then to the previous action), durations, a success bitmap
+ * (one byte per 8 actions, lowest bit first), details, transport times, span ids as deltas to the previous span id,
+ * parent span ids (0 for none, otherwise the zigzag distance to the span id + 1) and metrics (count, then name id
+ * and IEEE 754 double per metric). Strings are ids into the string table; nullable strings are stored as id + 1
+ * with 0 for null. Integers are unsigned LEB128 varints, signed values are zigzag encoded first.
+ * </p>
+ */
+final class ArchiveFormat {
+    static final int MAGIC = 0x53525441; // "SRTA", selenium run archive
+    static final int VERSION = 1;
+
+    private ArchiveFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in run archive");
+    }
+
+    static void writeZigZag(DataOutput out, long value) throws IOException {
+        writeVarLong(out, zigZag(value));
+    }
+
+    static long readZigZag(DataInput in) throws IOException {
+        return unZigZag(readVarLong(in));
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Value out of range in run archive: " + value);
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.selenium.framework.reports.archive;
+
+import org.example.selenium.framework.reports.ReportGenerator;
+import org.example.selenium.framework.reports.ReportOutput;
+import org.example.selenium.framework.reports.dto.TestActionDTO;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.selenium.framework.reports.archive.ArchiveFormat.writeVarLong;
+import static org.example.selenium.framework.reports.archive.ArchiveFormat.writeZigZag;
+
+/**
+ * Writes the tests and actions of a run to a compact binary archive, see {@link ArchiveFormat} for the layout.
+ * Read it back with {@link RunArchiveReader}. Run-level metrics are not part of the archive.
+ */
+public class ArchiveReportGenerator implements ReportGenerator {
+    private static final Logger log = LoggerFactory.getLogger(ArchiveReportGenerator.class);
+    private static final String OUTPUT_FILE = "test-run.archive";
+    private final ReportOutput output;
+
+    public ArchiveReportGenerator(ReportOutput output) {
+        this.output = output;
+    }
+
+    @Override
+    public void generate(TestRunDTO testRun) {
+        try (OutputStream out = output.open(OUTPUT_FILE)) {
+            write(testRun, out);
+            log.info("Run archive generated successfully: {}", output.resolve(OUTPUT_FILE));
+        } catch (IOException e) {
+            log.error("Failed to write run archive to file", e);
+        }
+    }
+
+    /**
+     * Write a run archive to a stream. The stream is flushed but not closed.
+     *
+     * @param testRun The run to archive
+     * @param outputStream The stream to write to
+     * @throws IOException If writing fails
+     */
+    public void write(TestRunDTO testRun, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        Map<String, Integer> strings = stringTable(testRun.getTestResults());
+
+        out.writeInt(ArchiveFormat.MAGIC);
+        writeVarLong(out, ArchiveFormat.VERSION);
+        writeVarLong(out, strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarLong(out, testRun.getTestResults().size());
+        long previousTestStart = 0;
+        for (TestResultDTO result : testRun.getTestResults()) {
+            writeVarLong(out, strings.get(result.getTestName()));
+            writeVarLong(out, strings.get(result.getStatus()));
+            writeVarLong(out, nullableId(strings, result.getError()));
+            writeZigZag(out, result.getStartTimestamp() - previousTestStart);
+            writeZigZag(out, result.getEndTimestamp() - result.getStartTimestamp());
+            previousTestStart = result.getStartTimestamp();
+            writeActions(out, strings, result.getStartTimestamp(), result.getTestActions());
+        }
+        out.flush();
+    }
+
+    private void writeActions(DataOutputStream out, Map<String, Integer> strings, long testStart, List<TestActionDTO> actions) throws IOException {
+        writeVarLong(out, actions.size());
+        for (TestActionDTO action : actions) {
+            writeVarLong(out, strings.get(action.getAction()));
+        }
+        for (TestActionDTO action : actions) {
+            writeVarLong(out, nullableId(strings, action.getTarget()));
+        }
+        long previousStart = testStart;
+        for (TestActionDTO action : actions) {
+            writeZigZag(out, action.getStartTimestamp() - previousStart);
+            previousStart = action.getStartTimestamp();
+        }
+        for (TestActionDTO action : actions) {
+            writeZigZag(out, action.getEndTimestamp() - action.getStartTimestamp());
+        }
+        for (int i = 0; i < actions.size(); i += 8) {
+            int bits = 0;
+            for (int bit = 0; bit < 8 && i + bit < actions.size(); bit++) {
+                if (actions.get(i + bit).isSuccess()) {
+                    bits |= 1 << bit;
+                }
+            }
+            out.writeByte(bits);
+        }
+        for (TestActionDTO action : actions) {
+            writeVarLong(out, nullableId(strings, action.getDetailMsg()));
+        }
+        for (TestActionDTO action : actions) {
+            writeZigZag(out, action.getTransportMicros());
+        }
+        long previousSpan = 0;
+        for (TestActionDTO action : actions) {
+            writeZigZag(out, action.getSpanId() - previousSpan);
+            previousSpan = action.getSpanId();
+        }
+        for (TestActionDTO action : actions) {
+            // Parents are usually close to their child: store the distance, 0 for top-level actions
+            if (action.getParentSpanId() == 0) {
+                writeVarLong(out, 0);
+            } else {
+                writeVarLong(out, ArchiveFormat.zigZag(action.getSpanId() - action.getParentSpanId()) + 1);
+            }
+        }
+        for (TestActionDTO action : actions) {
+            Map<String, Double> metrics = action.getMetrics() != null ? action.getMetrics() : Map.of();
+            writeVarLong(out, metrics.size());
+            for (Map.Entry<String, Double> metric : metrics.entrySet()) {
+                writeVarLong(out, strings.get(metric.getKey()));
+                out.writeDouble(metric.getValue());
+            }
+        }
+    }
+
+    private static Map<String, Integer> stringTable(List<TestResultDTO> results) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (TestResultDTO result : results) {
+            add(strings, result.getTestName());
+            add(strings, result.getStatus());
+            add(strings, result.getError());
+            for (TestActionDTO action : result.getTestActions()) {
+                add(strings, action.getAction());
+                add(strings, action.getTarget());
+                add(strings, action.getDetailMsg());
+                if (action.getMetrics() != null) {
+                    action.getMetrics().keySet().forEach(key -> add(strings, key));
+                }
+            }
+        }
+        return strings;
+    }
+
+    private static void add(Map<String, Integer> strings, String string) {
+        if (string != null) {
+            strings.putIfAbsent(string, strings.size());
+        }
+    }
+
+    private static long nullableId(Map<String, Integer> strings, String string) {
+        return string == null ? 0 : strings.get(string) + 1;
+    }
+}
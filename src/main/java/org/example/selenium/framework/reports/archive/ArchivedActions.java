@@ -0,0 +1,102 @@
+package org.example.selenium.framework.reports.archive;
+
+import org.example.selenium.framework.reports.dto.TestActionDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The actions of one archived test, column by column. Strings are resolved against the archive string table.
+ */
+public class ArchivedActions {
+    private final String[] strings;
+    final int[] actions;
+    final int[] targets;
+    final long[] startTimestamps;
+    final long[] endTimestamps;
+    final boolean[] successes;
+    final int[] details;
+    final long[] transportMicros;
+    final long[] spanIds;
+    final long[] parentSpanIds;
+    final List<Map<String, Double>> metrics;
+
+    ArchivedActions(String[] strings, int count) {
+        this.strings = strings;
+        this.actions = new int[count];
+        this.targets = new int[count];
+        this.startTimestamps = new long[count];
+        this.endTimestamps = new long[count];
+        this.successes = new boolean[count];
+        this.details = new int[count];
+        this.transportMicros = new long[count];
+        this.spanIds = new long[count];
+        this.parentSpanIds = new long[count];
+        this.metrics = new ArrayList<>(count);
+    }
+
+    public int size() {
+        return actions.length;
+    }
+
+    public String action(int index) {
+        return strings[actions[index]];
+    }
+
+    public String target(int index) {
+        return nullable(targets[index]);
+    }
+
+    public long startTimestamp(int index) {
+        return startTimestamps[index];
+    }
+
+    public long endTimestamp(int index) {
+        return endTimestamps[index];
+    }
+
+    public long durationMillis(int index) {
+        return endTimestamps[index] - startTimestamps[index];
+    }
+
+    public boolean success(int index) {
+        return successes[index];
+    }
+
+    public String detailMsg(int index) {
+        return nullable(details[index]);
+    }
+
+    public long transportMicros(int index) {
+        return transportMicros[index];
+    }
+
+    public long spanId(int index) {
+        return spanIds[index];
+    }
+
+    public long parentSpanId(int index) {
+        return parentSpanIds[index];
+    }
+
+    public Map<String, Double> metrics(int index) {
+        return metrics.get(index);
+    }
+
+    /**
+     * String table id of the action name, to group or compare actions without string comparisons.
+     */
+    public int actionId(int index) {
+        return actions[index];
+    }
+
+    public TestActionDTO toDTO(int index) {
+        return new TestActionDTO(action(index), target(index), startTimestamp(index), endTimestamp(index), success(index),
+                detailMsg(index), transportMicros(index), spanId(index), parentSpanId(index), metrics(index));
+    }
+
+    private String nullable(int id) {
+        return id == 0 ? null : strings[id - 1];
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.selenium.framework.reports.archive;
+
+/**
+ * A test read from a run archive.
+ */
+public record ArchivedTest(String testName, String status, long startTimestamp, long endTimestamp, String error, ArchivedActions actions) {
+}
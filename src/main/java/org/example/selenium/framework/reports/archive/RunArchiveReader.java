@@ -0,0 +1,178 @@
+package org.example.selenium.framework.reports.archive;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+
+import static org.example.selenium.framework.reports.archive.ArchiveFormat.readVarInt;
+import static org.example.selenium.framework.reports.archive.ArchiveFormat.readVarLong;
+import static org.example.selenium.framework.reports.archive.ArchiveFormat.readZigZag;
+
+/**
+ * Reads a run archive written by {@link ArchiveReportGenerator}. Only the string table is held in memory, tests
+ * are decoded one at a time while iterating, so large runs can be analysed without loading them completely.
+ */
+public class RunArchiveReader implements AutoCloseable, Iterable<ArchivedTest> {
+    private final DataInputStream in;
+    private final String[] strings;
+    private final int testCount;
+    private boolean iterated;
+
+    private RunArchiveReader(DataInputStream in, String[] strings, int testCount) {
+        this.in = in;
+        this.strings = strings;
+        this.testCount = testCount;
+    }
+
+    /**
+     * Open an archive, plain or gzip compressed, and read its header and string table.
+     *
+     * @param path The archive file
+     * @return The reader, positioned at the first test
+     * @throws IOException If the file cannot be read or is not a run archive
+     */
+    public static RunArchiveReader open(Path path) throws IOException {
+        InputStream file = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+        DataInputStream in;
+        try {
+            file.mark(2);
+            boolean gzip = file.read() == 0x1F && file.read() == 0x8B;
+            file.reset();
+            in = new DataInputStream(gzip ? new BufferedInputStream(new GZIPInputStream(file, 1 << 16), 1 << 16) : file);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        try {
+            if (in.readInt() != ArchiveFormat.MAGIC) {
+                throw new IOException("Not a run archive: " + path);
+            }
+            long version = readVarLong(in);
+            if (version != ArchiveFormat.VERSION) {
+                throw new IOException("Unsupported run archive version " + version + ": " + path);
+            }
+            String[] strings = new String[readVarInt(in)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readVarInt(in)];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return new RunArchiveReader(in, strings, readVarInt(in));
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    public int testCount() {
+        return testCount;
+    }
+
+    /**
+     * The tests of the archive, in the order they were written. The archive is read sequentially, so it can only be
+     * iterated once.
+     */
+    @Override
+    public Iterator<ArchivedTest> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("Run archive can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<>() {
+            private int read;
+            private long previousTestStart;
+
+            @Override
+            public boolean hasNext() {
+                return read < testCount;
+            }
+
+            @Override
+            public ArchivedTest next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    String testName = strings[readVarInt(in)];
+                    String status = strings[readVarInt(in)];
+                    String error = nullable(readVarInt(in));
+                    long startTimestamp = previousTestStart + readZigZag(in);
+                    long endTimestamp = startTimestamp + readZigZag(in);
+                    previousTestStart = startTimestamp;
+                    read++;
+                    return new ArchivedTest(testName, status, startTimestamp, endTimestamp, error, readActions(startTimestamp));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read run archive", e);
+                }
+            }
+        };
+    }
+
+    private ArchivedActions readActions(long testStart) throws IOException {
+        int count = readVarInt(in);
+        ArchivedActions actions = new ArchivedActions(strings, count);
+        for (int i = 0; i < count; i++) {
+            actions.actions[i] = readVarInt(in);
+        }
+        for (int i = 0; i < count; i++) {
+            actions.targets[i] = readVarInt(in);
+        }
+        long previousStart = testStart;
+        for (int i = 0; i < count; i++) {
+            previousStart += readZigZag(in);
+            actions.startTimestamps[i] = previousStart;
+        }
+        for (int i = 0; i < count; i++) {
+            actions.endTimestamps[i] = actions.startTimestamps[i] + readZigZag(in);
+        }
+        for (int i = 0; i < count; i += 8) {
+            int bits = in.readUnsignedByte();
+            for (int bit = 0; bit < 8 && i + bit < count; bit++) {
+                actions.successes[i + bit] = (bits & (1 << bit)) != 0;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            actions.details[i] = readVarInt(in);
+        }
+        for (int i = 0; i < count; i++) {
+            actions.transportMicros[i] = readZigZag(in);
+        }
+        long previousSpan = 0;
+        for (int i = 0; i < count; i++) {
+            previousSpan += readZigZag(in);
+            actions.spanIds[i] = previousSpan;
+        }
+        for (int i = 0; i < count; i++) {
+            long distance = readVarLong(in);
+            actions.parentSpanIds[i] = distance == 0 ? 0 : actions.spanIds[i] - ArchiveFormat.unZigZag(distance - 1);
+        }
+        for (int i = 0; i < count; i++) {
+            int metricCount = readVarInt(in);
+            Map<String, Double> metrics = metricCount == 0 ? Map.of() : new HashMap<>(metricCount * 2);
+            for (int m = 0; m < metricCount; m++) {
+                metrics.put(strings[readVarInt(in)], in.readDouble());
+            }
+            actions.metrics.add(metricCount == 0 ? metrics : Map.copyOf(metrics));
+        }
+        return actions;
+    }
+
+    private String nullable(int id) {
+        return id == 0 ? null : strings[id - 1];
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.selenium.framework.reports.dto;
+
+public class ActionMetricsDTO {
+    private String action;
+    private String target;
+    private long count;
+    private long failures;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double maxMillis;
+
+    public ActionMetricsDTO(String action, String target, long count, long failures, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+        this.action = action;
+        this.target = target;
+        this.count = count;
+        this.failures = failures;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public void setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public void setP90Millis(double p90Millis) {
+        this.p90Millis = p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public void setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ActionMetricsDTO{" +
+                "action='" + action + '\'' +
+                ", target='" + target + '\'' +
+                ", count=" + count +
+                ", failures=" + failures +
+                ", p50Millis=" + p50Millis +
+                ", p90Millis=" + p90Millis +
+                ", p99Millis=" + p99Millis +
+                ", maxMillis=" + maxMillis +
+                '}';
+    }
+}
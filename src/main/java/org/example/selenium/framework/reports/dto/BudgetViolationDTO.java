@@ -0,0 +1,59 @@
+package org.example.selenium.framework.reports.dto;
+
+import java.util.List;
+
+public class BudgetViolationDTO {
+    private String budget;
+    private long limitMillis;
+    private long actualMillis;
+    private List<TestActionDTO> offendingActions;
+
+    public BudgetViolationDTO(String budget, long limitMillis, long actualMillis, List<TestActionDTO> offendingActions) {
+        this.budget = budget;
+        this.limitMillis = limitMillis;
+        this.actualMillis = actualMillis;
+        this.offendingActions = offendingActions;
+    }
+
+    public String getBudget() {
+        return budget;
+    }
+
+    public void setBudget(String budget) {
+        this.budget = budget;
+    }
+
+    public long getLimitMillis() {
+        return limitMillis;
+    }
+
+    public void setLimitMillis(long limitMillis) {
+        this.limitMillis = limitMillis;
+    }
+
+    public long getActualMillis() {
+        return actualMillis;
+    }
+
+    public void setActualMillis(long actualMillis) {
+        this.actualMillis = actualMillis;
+    }
+
+    public List<TestActionDTO> getOffendingActions() {
+        return offendingActions;
+    }
+
+    public void setOffendingActions(List<TestActionDTO> offendingActions) {
+        this.offendingActions = offendingActions;
+    }
+
+    @Override
+    public String toString() {
+        return "BudgetViolationDTO{" +
+                "budget='" + budget + '\'' +
+                ", limitMillis=" + limitMillis +
+                ", actualMillis=" + actualMillis +
+                ", offendingActions=" + offendingActions +
+                '}';
+    }
+}
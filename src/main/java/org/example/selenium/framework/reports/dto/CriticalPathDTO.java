@@ -0,0 +1,70 @@
+package org.example.selenium.framework.reports.dto;
+
+import java.util.List;
+
+public class CriticalPathDTO {
+    private List<String> testNames;
+    private long driverStartupMillis;
+    private long bodyMillis;
+    private long teardownMillis;
+    private long otherMillis;
+
+    public CriticalPathDTO(List<String> testNames, long driverStartupMillis, long bodyMillis, long teardownMillis, long otherMillis) {
+        this.testNames = testNames;
+        this.driverStartupMillis = driverStartupMillis;
+        this.bodyMillis = bodyMillis;
+        this.teardownMillis = teardownMillis;
+        this.otherMillis = otherMillis;
+    }
+
+    public List<String> getTestNames() {
+        return testNames;
+    }
+
+    public void setTestNames(List<String> testNames) {
+        this.testNames = testNames;
+    }
+
+    public long getDriverStartupMillis() {
+        return driverStartupMillis;
+    }
+
+    public void setDriverStartupMillis(long driverStartupMillis) {
+        this.driverStartupMillis = driverStartupMillis;
+    }
+
+    public long getBodyMillis() {
+        return bodyMillis;
+    }
+
+    public void setBodyMillis(long bodyMillis) {
+        this.bodyMillis = bodyMillis;
+    }
+
+    public long getTeardownMillis() {
+        return teardownMillis;
+    }
+
+    public void setTeardownMillis(long teardownMillis) {
+        this.teardownMillis = teardownMillis;
+    }
+
+    public long getOtherMillis() {
+        return otherMillis;
+    }
+
+    public void setOtherMillis(long otherMillis) {
+        this.otherMillis = otherMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "CriticalPathDTO{" +
+                "testNames=" + testNames +
+                ", driverStartupMillis=" + driverStartupMillis +
+                ", bodyMillis=" + bodyMillis +
+                ", teardownMillis=" + teardownMillis +
+                ", otherMillis=" + otherMillis +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.selenium.framework.reports.dto;
+
+public class PageMetricsDTO {
+    private String url;
+    private String metric;
+    private long samples;
+    private double mean;
+    private double p75;
+    private double max;
+
+    public PageMetricsDTO(String url, String metric, long samples, double mean, double p75, double max) {
+        this.url = url;
+        this.metric = metric;
+        this.samples = samples;
+        this.mean = mean;
+        this.p75 = p75;
+        this.max = max;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(long samples) {
+        this.samples = samples;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public double getP75() {
+        return p75;
+    }
+
+    public void setP75(double p75) {
+        this.p75 = p75;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void setMax(double max) {
+        this.max = max;
+    }
+
+    @Override
+    public String toString() {
+        return "PageMetricsDTO{" +
+                "url='" + url + '\'' +
+                ", metric='" + metric + '\'' +
+                ", samples=" + samples +
+                ", mean=" + mean +
+                ", p75=" + p75 +
+                ", max=" + max +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.selenium.framework.reports.dto;
+
+public class RegressionDTO {
+    private String testName;
+    private String actionType;
+    private int baselineRuns;
+    private double baselineMeanMillis;
+    private double currentMeanMillis;
+    private double tScore;
+
+    public RegressionDTO(String testName, String actionType, int baselineRuns, double baselineMeanMillis, double currentMeanMillis, double tScore) {
+        this.testName = testName;
+        this.actionType = actionType;
+        this.baselineRuns = baselineRuns;
+        this.baselineMeanMillis = baselineMeanMillis;
+        this.currentMeanMillis = currentMeanMillis;
+        this.tScore = tScore;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public void setTestName(String testName) {
+        this.testName = testName;
+    }
+
+    public String getActionType() {
+        return actionType;
+    }
+
+    public void setActionType(String actionType) {
+        this.actionType = actionType;
+    }
+
+    public int getBaselineRuns() {
+        return baselineRuns;
+    }
+
+    public void setBaselineRuns(int baselineRuns) {
+        this.baselineRuns = baselineRuns;
+    }
+
+    public double getBaselineMeanMillis() {
+        return baselineMeanMillis;
+    }
+
+    public void setBaselineMeanMillis(double baselineMeanMillis) {
+        this.baselineMeanMillis = baselineMeanMillis;
+    }
+
+    public double getCurrentMeanMillis() {
+        return currentMeanMillis;
+    }
+
+    public void setCurrentMeanMillis(double currentMeanMillis) {
+        this.currentMeanMillis = currentMeanMillis;
+    }
+
+    public double getTScore() {
+        return tScore;
+    }
+
+    public void setTScore(double tScore) {
+        this.tScore = tScore;
+    }
+
+    @Override
+    public String toString() {
+        return "RegressionDTO{" +
+                "testName='" + testName + '\'' +
+                ", actionType='" + actionType + '\'' +
+                ", baselineRuns=" + baselineRuns +
+                ", baselineMeanMillis=" + baselineMeanMillis +
+                ", currentMeanMillis=" + currentMeanMillis +
+                ", tScore=" + tScore +
+                '}';
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.selenium.framework.reports.dto;
+
+/**
+ * One run in the run index: when it ran, how it went and where its reports are.
+ */
+public class RunIndexEntryDTO {
+    private String runId;
+    private long startTimestamp;
+    private long durationMillis;
+    private int tests;
+    private int passed;
+    private int failed;
+    private int skipped;
+    private int budgetExceeded;
+    private String directory;
+    private boolean compressed;
+
+    public RunIndexEntryDTO() {
+    }
+
+    public RunIndexEntryDTO(String runId, long startTimestamp, long durationMillis, int tests, int passed, int failed, int skipped,
+                            int budgetExceeded, String directory, boolean compressed) {
+        this.runId = runId;
+        this.startTimestamp = startTimestamp;
+        this.durationMillis = durationMillis;
+        this.tests = tests;
+        this.passed = passed;
+        this.failed = failed;
+        this.skipped = skipped;
+        this.budgetExceeded = budgetExceeded;
+        this.directory = directory;
+        this.compressed = compressed;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public int getTests() {
+        return tests;
+    }
+
+    public void setTests(int tests) {
+        this.tests = tests;
+    }
+
+    public int getPassed() {
+        return passed;
+    }
+
+    public void setPassed(int passed) {
+        this.passed = passed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getBudgetExceeded() {
+        return budgetExceeded;
+    }
+
+    public void setBudgetExceeded(int budgetExceeded) {
+        this.budgetExceeded = budgetExceeded;
+    }
+
+    /**
+     * The run directory, relative to the report directory.
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public String toString() {
+        return "RunIndexEntryDTO{" +
+                "runId='" + runId + '\'' +
+                ", startTimestamp=" + startTimestamp +
+                ", durationMillis=" + durationMillis +
+                ", tests=" + tests +
+                ", passed=" + passed +
+                ", failed=" + failed +
+                ", skipped=" + skipped +
+                ", budgetExceeded=" + budgetExceeded +
+                ", directory='" + directory + '\'' +
+                ", compressed=" + compressed +
+                '}';
+    }
+}
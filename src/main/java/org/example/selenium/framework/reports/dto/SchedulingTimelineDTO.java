@@ -0,0 +1,93 @@
+package org.example.selenium.framework.reports.dto;
+
+import java.util.List;
+
+public class SchedulingTimelineDTO {
+    private long runStartTimestamp;
+    private long runEndTimestamp;
+    private int slots;
+    private double utilisation;
+    private long bucketMillis;
+    private List<UtilisationBucketDTO> buckets;
+    private CriticalPathDTO criticalPath;
+
+    public SchedulingTimelineDTO(long runStartTimestamp, long runEndTimestamp, int slots, double utilisation, long bucketMillis,
+                                 List<UtilisationBucketDTO> buckets, CriticalPathDTO criticalPath) {
+        this.runStartTimestamp = runStartTimestamp;
+        this.runEndTimestamp = runEndTimestamp;
+        this.slots = slots;
+        this.utilisation = utilisation;
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+        this.criticalPath = criticalPath;
+    }
+
+    public long getRunStartTimestamp() {
+        return runStartTimestamp;
+    }
+
+    public void setRunStartTimestamp(long runStartTimestamp) {
+        this.runStartTimestamp = runStartTimestamp;
+    }
+
+    public long getRunEndTimestamp() {
+        return runEndTimestamp;
+    }
+
+    public void setRunEndTimestamp(long runEndTimestamp) {
+        this.runEndTimestamp = runEndTimestamp;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public void setSlots(int slots) {
+        this.slots = slots;
+    }
+
+    public double getUtilisation() {
+        return utilisation;
+    }
+
+    public void setUtilisation(double utilisation) {
+        this.utilisation = utilisation;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public void setBucketMillis(long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+
+    public List<UtilisationBucketDTO> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<UtilisationBucketDTO> buckets) {
+        this.buckets = buckets;
+    }
+
+    public CriticalPathDTO getCriticalPath() {
+        return criticalPath;
+    }
+
+    public void setCriticalPath(CriticalPathDTO criticalPath) {
+        this.criticalPath = criticalPath;
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulingTimelineDTO{" +
+                "runStartTimestamp=" + runStartTimestamp +
+                ", runEndTimestamp=" + runEndTimestamp +
+                ", slots=" + slots +
+                ", utilisation=" + utilisation +
+                ", bucketMillis=" + bucketMillis +
+                ", buckets=" + buckets +
+                ", criticalPath=" + criticalPath +
+                '}';
+    }
+}
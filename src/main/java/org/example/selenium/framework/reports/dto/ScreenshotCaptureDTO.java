@@ -0,0 +1,108 @@
+package org.example.selenium.framework.reports.dto;
+
+/**
+ * The latest capture of a screenshot name (test and label), with the capture of the run before it, so a change
+ * between runs can be told from the perceptual hashes alone.
+ */
+public class ScreenshotCaptureDTO {
+    private String name;
+    private String runId;
+    private long timestamp;
+    private String sha256;
+    private String perceptualHash;
+    private String previousRunId;
+    private String previousSha256;
+    private String previousPerceptualHash;
+
+    public ScreenshotCaptureDTO() {
+    }
+
+    public ScreenshotCaptureDTO(String name, String runId, long timestamp, String sha256, String perceptualHash, String previousRunId, String previousSha256, String previousPerceptualHash) {
+        this.name = name;
+        this.runId = runId;
+        this.timestamp = timestamp;
+        this.sha256 = sha256;
+        this.perceptualHash = perceptualHash;
+        this.previousRunId = previousRunId;
+        this.previousSha256 = previousSha256;
+        this.previousPerceptualHash = previousPerceptualHash;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getPerceptualHash() {
+        return perceptualHash;
+    }
+
+    public void setPerceptualHash(String perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+
+    public String getPreviousRunId() {
+        return previousRunId;
+    }
+
+    public void setPreviousRunId(String previousRunId) {
+        this.previousRunId = previousRunId;
+    }
+
+    public String getPreviousSha256() {
+        return previousSha256;
+    }
+
+    public void setPreviousSha256(String previousSha256) {
+        this.previousSha256 = previousSha256;
+    }
+
+    public String getPreviousPerceptualHash() {
+        return previousPerceptualHash;
+    }
+
+    public void setPreviousPerceptualHash(String previousPerceptualHash) {
+        this.previousPerceptualHash = previousPerceptualHash;
+    }
+
+    @Override
+    public String toString() {
+        return "ScreenshotCaptureDTO{" +
+                "name='" + name + '\'' +
+                ", runId='" + runId + '\'' +
+                ", timestamp=" + timestamp +
+                ", sha256='" + sha256 + '\'' +
+                ", perceptualHash='" + perceptualHash + '\'' +
+                ", previousRunId='" + previousRunId + '\'' +
+                ", previousSha256='" + previousSha256 + '\'' +
+                ", previousPerceptualHash='" + previousPerceptualHash + '\'' +
+                '}';
+    }
+}
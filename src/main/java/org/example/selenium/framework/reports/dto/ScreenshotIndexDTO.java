@@ -0,0 +1,43 @@
+package org.example.selenium.framework.reports.dto;
+
+import java.util.Map;
+
+/**
+ * The index of the screenshot store: every stored image and the latest capture of every screenshot name.
+ */
+public class ScreenshotIndexDTO {
+    private Map<String, ScreenshotObjectDTO> objects;
+    private Map<String, ScreenshotCaptureDTO> captures;
+
+    public ScreenshotIndexDTO() {
+    }
+
+    public ScreenshotIndexDTO(Map<String, ScreenshotObjectDTO> objects, Map<String, ScreenshotCaptureDTO> captures) {
+        this.objects = objects;
+        this.captures = captures;
+    }
+
+    public Map<String, ScreenshotObjectDTO> getObjects() {
+        return objects;
+    }
+
+    public void setObjects(Map<String, ScreenshotObjectDTO> objects) {
+        this.objects = objects;
+    }
+
+    public Map<String, ScreenshotCaptureDTO> getCaptures() {
+        return captures;
+    }
+
+    public void setCaptures(Map<String, ScreenshotCaptureDTO> captures) {
+        this.captures = captures;
+    }
+
+    @Override
+    public String toString() {
+        return "ScreenshotIndexDTO{" +
+                "objects=" + objects +
+                ", captures=" + captures +
+                '}';
+    }
+}
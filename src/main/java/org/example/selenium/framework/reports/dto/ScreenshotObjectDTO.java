@@ -0,0 +1,96 @@
+package org.example.selenium.framework.reports.dto;
+
+/**
+ * An image file in the screenshot store, keyed by the SHA-256 of its bytes.
+ */
+public class ScreenshotObjectDTO {
+    private String sha256;
+    private String perceptualHash;
+    private int width;
+    private int height;
+    private long size;
+    private String path;
+    private long storedTimestamp;
+
+    public ScreenshotObjectDTO() {
+    }
+
+    public ScreenshotObjectDTO(String sha256, String perceptualHash, int width, int height, long size, String path, long storedTimestamp) {
+        this.sha256 = sha256;
+        this.perceptualHash = perceptualHash;
+        this.width = width;
+        this.height = height;
+        this.size = size;
+        this.path = path;
+        this.storedTimestamp = storedTimestamp;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getPerceptualHash() {
+        return perceptualHash;
+    }
+
+    public void setPerceptualHash(String perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public void setWidth(int width) {
+        this.width = width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public void setHeight(int height) {
+        this.height = height;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public long getStoredTimestamp() {
+        return storedTimestamp;
+    }
+
+    public void setStoredTimestamp(long storedTimestamp) {
+        this.storedTimestamp = storedTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "ScreenshotObjectDTO{" +
+                "sha256='" + sha256 + '\'' +
+                ", perceptualHash='" + perceptualHash + '\'' +
+                ", width=" + width +
+                ", height=" + height +
+                ", size=" + size +
+                ", path='" + path + '\'' +
+                ", storedTimestamp=" + storedTimestamp +
+                '}';
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.selenium.framework.reports.dto;
+
+/**
+ * A screenshot taken during a test, stored once in the screenshot store and referenced by its content hash.
+ */
+public class ScreenshotRefDTO {
+    private String name;
+    private String sha256;
+    private String perceptualHash;
+    private String path;
+    private int distanceToPrevious;
+    private boolean changed;
+
+    public ScreenshotRefDTO() {
+    }
+
+    public ScreenshotRefDTO(String name, String sha256, String perceptualHash, String path, int distanceToPrevious, boolean changed) {
+        this.name = name;
+        this.sha256 = sha256;
+        this.perceptualHash = perceptualHash;
+        this.path = path;
+        this.distanceToPrevious = distanceToPrevious;
+        this.changed = changed;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getPerceptualHash() {
+        return perceptualHash;
+    }
+
+    public void setPerceptualHash(String perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getDistanceToPrevious() {
+        return distanceToPrevious;
+    }
+
+    public void setDistanceToPrevious(int distanceToPrevious) {
+        this.distanceToPrevious = distanceToPrevious;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public void setChanged(boolean changed) {
+        this.changed = changed;
+    }
+
+    @Override
+    public String toString() {
+        return "ScreenshotRefDTO{" +
+                "name='" + name + '\'' +
+                ", sha256='" + sha256 + '\'' +
+                ", perceptualHash='" + perceptualHash + '\'' +
+                ", path='" + path + '\'' +
+                ", distanceToPrevious=" + distanceToPrevious +
+                ", changed=" + changed +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.selenium.framework.reports.dto;
 
+import java.util.Map;
+
 public class TestActionDTO {
     private String action;
     private String target;
@@ -7,14 +9,28 @@ public class TestActionDTO {
     private long endTimestamp;
     private boolean success;
     private String detailMsg;
+    private long transportMicros;
+    private long spanId;
+    private long parentSpanId;
+    private Map<String, Double> metrics;
+
+    public TestActionDTO(String action, String target, long startTimestamp, long endTimestamp, boolean success, String detailMsg,
+                         long transportMicros, long spanId, long parentSpanId) {
+        this(action, target, startTimestamp, endTimestamp, success, detailMsg, transportMicros, spanId, parentSpanId, Map.of());
+    }
 
-    public TestActionDTO(String action, String target, long startTimestamp, long endTimestamp, boolean success, String detailMsg) {
+    public TestActionDTO(String action, String target, long startTimestamp, long endTimestamp, boolean success, String detailMsg,
+                         long transportMicros, long spanId, long parentSpanId, Map<String, Double> metrics) {
         this.action = action;
         this.target = target;
         this.startTimestamp = startTimestamp;
         this.endTimestamp = endTimestamp;
         this.success = success;
         this.detailMsg = detailMsg;
+        this.transportMicros = transportMicros;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.metrics = metrics;
     }
 
     public String getAction() {
@@ -65,6 +81,38 @@ public class TestActionDTO {
         this.detailMsg = detailMsg;
     }
 
+    public long getTransportMicros() {
+        return transportMicros;
+    }
+
+    public void setTransportMicros(long transportMicros) {
+        this.transportMicros = transportMicros;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    public void setSpanId(long spanId) {
+        this.spanId = spanId;
+    }
+
+    public long getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public void setParentSpanId(long parentSpanId) {
+        this.parentSpanId = parentSpanId;
+    }
+
+    public Map<String, Double> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Map<String, Double> metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public String toString() {
         return "TestActionDTO{" +
@@ -74,6 +122,10 @@ public class TestActionDTO {
                 ", endTimestamp=" + endTimestamp +
                 ", success=" + success +
                 ", detailMsg='" + detailMsg + '\'' +
+                ", transportMicros=" + transportMicros +
+                ", spanId=" + spanId +
+                ", parentSpanId=" + parentSpanId +
+                ", metrics=" + metrics +
                 '}';
     }
 }
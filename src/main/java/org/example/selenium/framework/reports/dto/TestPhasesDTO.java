@@ -0,0 +1,57 @@
+package org.example.selenium.framework.reports.dto;
+
+public class TestPhasesDTO {
+    private long queuedMillis;
+    private long driverStartupMillis;
+    private long bodyMillis;
+    private long teardownMillis;
+
+    public TestPhasesDTO(long queuedMillis, long driverStartupMillis, long bodyMillis, long teardownMillis) {
+        this.queuedMillis = queuedMillis;
+        this.driverStartupMillis = driverStartupMillis;
+        this.bodyMillis = bodyMillis;
+        this.teardownMillis = teardownMillis;
+    }
+
+    public long getQueuedMillis() {
+        return queuedMillis;
+    }
+
+    public void setQueuedMillis(long queuedMillis) {
+        this.queuedMillis = queuedMillis;
+    }
+
+    public long getDriverStartupMillis() {
+        return driverStartupMillis;
+    }
+
+    public void setDriverStartupMillis(long driverStartupMillis) {
+        this.driverStartupMillis = driverStartupMillis;
+    }
+
+    public long getBodyMillis() {
+        return bodyMillis;
+    }
+
+    public void setBodyMillis(long bodyMillis) {
+        this.bodyMillis = bodyMillis;
+    }
+
+    public long getTeardownMillis() {
+        return teardownMillis;
+    }
+
+    public void setTeardownMillis(long teardownMillis) {
+        this.teardownMillis = teardownMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "TestPhasesDTO{" +
+                "queuedMillis=" + queuedMillis +
+                ", driverStartupMillis=" + driverStartupMillis +
+                ", bodyMillis=" + bodyMillis +
+                ", teardownMillis=" + teardownMillis +
+                '}';
+    }
+}
@@ -9,14 +9,34 @@ public class TestResultDTO {
     private long endTimestamp;
     private String error;
     private List<TestActionDTO> testActions;
+    private List<BudgetViolationDTO> budgetViolations;
+    private TestPhasesDTO phases;
+    private List<ScreenshotRefDTO> screenshots;
 
     public TestResultDTO(String testName, String status, long startTimestamp, long endTimestamp, String error, List<TestActionDTO> testActions) {
+        this(testName, status, startTimestamp, endTimestamp, error, testActions, List.of());
+    }
+
+    public TestResultDTO(String testName, String status, long startTimestamp, long endTimestamp, String error, List<TestActionDTO> testActions, List<BudgetViolationDTO> budgetViolations) {
+        this(testName, status, startTimestamp, endTimestamp, error, testActions, budgetViolations, null);
+    }
+
+    public TestResultDTO(String testName, String status, long startTimestamp, long endTimestamp, String error, List<TestActionDTO> testActions, List<BudgetViolationDTO> budgetViolations,
+                         TestPhasesDTO phases) {
+        this(testName, status, startTimestamp, endTimestamp, error, testActions, budgetViolations, phases, List.of());
+    }
+
+    public TestResultDTO(String testName, String status, long startTimestamp, long endTimestamp, String error, List<TestActionDTO> testActions, List<BudgetViolationDTO> budgetViolations,
+                         TestPhasesDTO phases, List<ScreenshotRefDTO> screenshots) {
         this.testName = testName;
         this.status = status;
         this.startTimestamp = startTimestamp;
         this.endTimestamp = endTimestamp;
         this.error = error;
         this.testActions = testActions;
+        this.budgetViolations = budgetViolations;
+        this.phases = phases;
+        this.screenshots = screenshots;
     }
 
     public String getTestName() {
@@ -43,6 +63,18 @@ public class TestResultDTO {
         return testActions;
     }
 
+    public List<BudgetViolationDTO> getBudgetViolations() {
+        return budgetViolations;
+    }
+
+    public TestPhasesDTO getPhases() {
+        return phases;
+    }
+
+    public List<ScreenshotRefDTO> getScreenshots() {
+        return screenshots;
+    }
+
     public void setTestName(String testName) {
         this.testName = testName;
     }
@@ -67,6 +99,18 @@ public class TestResultDTO {
         this.testActions = testActions;
     }
 
+    public void setBudgetViolations(List<BudgetViolationDTO> budgetViolations) {
+        this.budgetViolations = budgetViolations;
+    }
+
+    public void setPhases(TestPhasesDTO phases) {
+        this.phases = phases;
+    }
+
+    public void setScreenshots(List<ScreenshotRefDTO> screenshots) {
+        this.screenshots = screenshots;
+    }
+
     @Override
     public String toString() {
         return "TestResultDTO{" +
@@ -76,6 +120,9 @@ public class TestResultDTO {
                 ", endTimestamp=" + endTimestamp +
                 ", error='" + error + '\'' +
                 ", testActions=" + testActions +
+                ", budgetViolations=" + budgetViolations +
+                ", phases=" + phases +
+                ", screenshots=" + screenshots +
                 '}';
     }
 }
@@ -2,18 +2,46 @@ package org.example.selenium.framework.reports.dto;
 
 import java.util.List;
 
+/**
+ * A completed run as handed to the report generators. Generators read it concurrently, so it can't be modified.
+ */
 public class TestRunDTO {
-    private List<TestResultDTO> testResults;
+    private final List<TestResultDTO> testResults;
+    private final List<ActionMetricsDTO> metrics;
+    private final List<PageMetricsDTO> pageMetrics;
+    private final List<RegressionDTO> regressions;
+    private final SchedulingTimelineDTO timeline;
 
     public TestRunDTO(List<TestResultDTO> testResults) {
+        this(testResults, List.of(), List.of(), List.of(), null);
+    }
+
+    public TestRunDTO(List<TestResultDTO> testResults, List<ActionMetricsDTO> metrics, List<PageMetricsDTO> pageMetrics, List<RegressionDTO> regressions,
+                      SchedulingTimelineDTO timeline) {
         this.testResults = testResults;
+        this.metrics = metrics;
+        this.pageMetrics = pageMetrics;
+        this.regressions = regressions;
+        this.timeline = timeline;
     }
 
     public List<TestResultDTO> getTestResults() {
         return testResults;
     }
 
-    public void setTestResults(List<TestResultDTO> testResults) {
-        this.testResults = testResults;
+    public List<ActionMetricsDTO> getMetrics() {
+        return metrics;
+    }
+
+    public List<PageMetricsDTO> getPageMetrics() {
+        return pageMetrics;
+    }
+
+    public List<RegressionDTO> getRegressions() {
+        return regressions;
+    }
+
+    public SchedulingTimelineDTO getTimeline() {
+        return timeline;
     }
 }
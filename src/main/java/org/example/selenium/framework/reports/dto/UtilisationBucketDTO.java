@@ -0,0 +1,46 @@
+package org.example.selenium.framework.reports.dto;
+
+public class UtilisationBucketDTO {
+    private long offsetMillis;
+    private double busySlots;
+    private double queuedTests;
+
+    public UtilisationBucketDTO(long offsetMillis, double busySlots, double queuedTests) {
+        this.offsetMillis = offsetMillis;
+        this.busySlots = busySlots;
+        this.queuedTests = queuedTests;
+    }
+
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public void setOffsetMillis(long offsetMillis) {
+        this.offsetMillis = offsetMillis;
+    }
+
+    public double getBusySlots() {
+        return busySlots;
+    }
+
+    public void setBusySlots(double busySlots) {
+        this.busySlots = busySlots;
+    }
+
+    public double getQueuedTests() {
+        return queuedTests;
+    }
+
+    public void setQueuedTests(double queuedTests) {
+        this.queuedTests = queuedTests;
+    }
+
+    @Override
+    public String toString() {
+        return "UtilisationBucketDTO{" +
+                "offsetMillis=" + offsetMillis +
+                ", busySlots=" + busySlots +
+                ", queuedTests=" + queuedTests +
+                '}';
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.selenium.framework.reports.mappers;
+
+import org.example.selenium.framework.metrics.LatencySummary;
+import org.example.selenium.framework.reports.dto.ActionMetricsDTO;
+
+public class LatencySummaryMapper {
+    public static ActionMetricsDTO toDTO(LatencySummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return new ActionMetricsDTO(
+                summary.action(),
+                summary.target(),
+                summary.count(),
+                summary.failures(),
+                summary.p50Millis(),
+                summary.p90Millis(),
+                summary.p99Millis(),
+                summary.maxMillis());
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.selenium.framework.reports.mappers;
+
+import org.example.selenium.framework.listener.TestAction;
+import org.example.selenium.framework.reports.dto.PageMetricsDTO;
+import org.example.selenium.framework.results.TestResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class PageMetricsMapper {
+    /**
+     * Aggregate the page metrics attached to the actions of all tests per URL and metric.
+     * p75 is the percentile Web Vitals are usually assessed at.
+     *
+     * @param testResults The results of the run
+     * @return One entry per URL and metric, sorted by URL and metric name
+     */
+    public static List<PageMetricsDTO> toDTOs(List<TestResult> testResults) {
+        Map<String, Map<String, List<Double>>> samplesByUrl = new TreeMap<>();
+        for (TestResult testResult : testResults) {
+            for (TestAction action : testResult.testActions()) {
+                if (action.metrics().isEmpty()) {
+                    continue;
+                }
+                Map<String, List<Double>> samplesByMetric = samplesByUrl.computeIfAbsent(action.target(), url -> new TreeMap<>());
+                action.metrics().forEach((metric, value) ->
+                        samplesByMetric.computeIfAbsent(metric, name -> new ArrayList<>()).add(value));
+            }
+        }
+
+        List<PageMetricsDTO> pageMetrics = new ArrayList<>();
+        samplesByUrl.forEach((url, samplesByMetric) -> samplesByMetric.forEach((metric, samples) -> {
+            double[] sorted = samples.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            double mean = Arrays.stream(sorted).average().orElse(0);
+            int rank = (int) Math.ceil(0.75 * sorted.length);
+            pageMetrics.add(new PageMetricsDTO(url, metric, sorted.length, mean, sorted[Math.max(rank, 1) - 1], sorted[sorted.length - 1]));
+        }));
+        return List.copyOf(pageMetrics);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.selenium.framework.reports.mappers;
+
+import org.example.selenium.framework.history.Regression;
+import org.example.selenium.framework.reports.dto.RegressionDTO;
+
+public class RegressionMapper {
+    public static RegressionDTO toDTO(Regression regression) {
+        if (regression == null) {
+            return null;
+        }
+
+        return new RegressionDTO(
+                regression.testName(),
+                regression.actionType(),
+                regression.baselineRuns(),
+                regression.baselineMeanMillis(),
+                regression.currentMeanMillis(),
+                regression.tScore());
+    }
+}
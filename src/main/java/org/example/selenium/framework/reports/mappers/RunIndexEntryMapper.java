@@ -0,0 +1,33 @@
+package org.example.selenium.framework.reports.mappers;
+
+import org.example.selenium.framework.reports.ReportOutput;
+import org.example.selenium.framework.reports.dto.RunIndexEntryDTO;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.example.selenium.framework.results.TestStatus;
+
+public class RunIndexEntryMapper {
+    public static RunIndexEntryDTO toDTO(ReportOutput output, TestRunDTO testRun, long endTimestamp) {
+        int passed = 0, failed = 0, skipped = 0, budgetExceeded = 0;
+        for (TestResultDTO result : testRun.getTestResults()) {
+            switch (TestStatus.valueOf(result.getStatus())) {
+                case PASSED -> passed++;
+                case FAILED -> failed++;
+                case SKIPPED -> skipped++;
+                case BUDGET_EXCEEDED -> budgetExceeded++;
+            }
+        }
+        long startTimestamp = output.getStartedAt().toEpochMilli();
+        return new RunIndexEntryDTO(
+                output.getRunId(),
+                startTimestamp,
+                endTimestamp - startTimestamp,
+                testRun.getTestResults().size(),
+                passed,
+                failed,
+                skipped,
+                budgetExceeded,
+                output.getReportDirectory().relativize(output.getRunDirectory()).toString(),
+                output.isCompressed());
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.selenium.framework.reports.mappers;
+
+import org.example.selenium.framework.reports.dto.CriticalPathDTO;
+import org.example.selenium.framework.reports.dto.SchedulingTimelineDTO;
+import org.example.selenium.framework.reports.dto.UtilisationBucketDTO;
+import org.example.selenium.framework.results.SchedulingTimeline;
+
+import java.util.List;
+
+public class SchedulingTimelineMapper {
+    public static SchedulingTimelineDTO toDTO(SchedulingTimeline timeline) {
+        if (timeline == null) {
+            return null;
+        }
+
+        List<UtilisationBucketDTO> buckets = timeline.buckets().stream()
+                .map(bucket -> new UtilisationBucketDTO(bucket.offsetMillis(), bucket.busySlots(), bucket.queuedTests()))
+                .toList();
+        SchedulingTimeline.CriticalPath criticalPath = timeline.criticalPath();
+
+        return new SchedulingTimelineDTO(
+                timeline.runStartTimestamp(),
+                timeline.runEndTimestamp(),
+                timeline.slots(),
+                timeline.utilisation(),
+                timeline.bucketMillis(),
+                buckets,
+                new CriticalPathDTO(
+                        criticalPath.testNames(),
+                        criticalPath.driverStartupMillis(),
+                        criticalPath.bodyMillis(),
+                        criticalPath.teardownMillis(),
+                        criticalPath.otherMillis()));
+    }
+}
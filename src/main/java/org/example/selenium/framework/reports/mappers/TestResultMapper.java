@@ -1,11 +1,17 @@
 package org.example.selenium.framework.reports.mappers;
 
+import org.example.selenium.framework.listener.TestAction;
+import org.example.selenium.framework.reports.dto.BudgetViolationDTO;
+import org.example.selenium.framework.reports.dto.ScreenshotRefDTO;
 import org.example.selenium.framework.reports.dto.TestActionDTO;
+import org.example.selenium.framework.reports.dto.TestPhasesDTO;
 import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.results.TestPhases;
 import org.example.selenium.framework.results.TestResult;
+import org.example.selenium.framework.visual.PerceptualHash;
 
+import java.util.AbstractList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TestResultMapper {
     public static TestResultDTO toDTO(TestResult testResult) {
@@ -18,17 +24,70 @@ public class TestResultMapper {
         long testStartTimestamp = testResult.testStartTimestamp();
         long testEndTimestamp = testResult.testEndTimestamp();
         String error = testResult.error();
-        List<TestActionDTO> testActions =
-            testResult.testActions().stream()
-                .map(action -> new org.example.selenium.framework.reports.dto.TestActionDTO(
+        List<TestActionDTO> testActions = toDTOs(testResult.testActions());
+        List<BudgetViolationDTO> budgetViolations =
+            testResult.budgetViolations().stream()
+                .map(violation -> new BudgetViolationDTO(
+                        violation.budget(),
+                        violation.limitMillis(),
+                        violation.actualMillis(),
+                        toDTOs(violation.offendingActions())))
+                .toList();
+
+        TestPhases phases = testResult.phases();
+        TestPhasesDTO phasesDTO = new TestPhasesDTO(
+                phases.queuedMillis(),
+                phases.driverStartupMillis(),
+                phases.bodyMillis(),
+                phases.teardownMillis());
+
+        List<ScreenshotRefDTO> screenshots = testResult.screenshots().stream()
+                .map(screenshot -> new ScreenshotRefDTO(
+                        screenshot.name(),
+                        screenshot.sha256(),
+                        PerceptualHash.toHex(screenshot.perceptualHash()),
+                        screenshot.path(),
+                        screenshot.distanceToPrevious(),
+                        screenshot.changed()))
+                .toList();
+
+        return new TestResultDTO(testName, status, testStartTimestamp, testEndTimestamp, error, testActions, budgetViolations, phasesDTO, screenshots);
+    }
+
+    /**
+     * A read-only view mapping each result when it is accessed instead of copying the whole run up front, so the
+     * DTOs of a large run are never all in memory at once.
+     *
+     * @param testResults The results of the run
+     * @return The results as DTOs
+     */
+    public static List<TestResultDTO> toDTOView(List<TestResult> testResults) {
+        return new AbstractList<>() {
+            @Override
+            public TestResultDTO get(int index) {
+                return toDTO(testResults.get(index));
+            }
+
+            @Override
+            public int size() {
+                return testResults.size();
+            }
+        };
+    }
+
+    private static List<TestActionDTO> toDTOs(List<TestAction> actions) {
+        return actions.stream()
+                .map(action -> new TestActionDTO(
                         action.action(),
                         action.target(),
                         action.startTimestamp(),
                         action.endTimestamp(),
                         action.success(),
-                        action.detailMsg()))
-                .collect(Collectors.toList());
-
-        return new TestResultDTO(testName, status, testStartTimestamp, testEndTimestamp, error, testActions);
+                        action.detailMsg(),
+                        action.transportMicros(),
+                        action.spanId(),
+                        action.parentSpanId(),
+                        action.metrics()))
+                .toList();
     }
 }
@@ -0,0 +1,16 @@
+package org.example.selenium.framework.results;
+
+import org.example.selenium.framework.listener.TestAction;
+
+import java.util.List;
+
+/**
+ * A performance budget limit exceeded by a test, with the actions that exceeded it.
+ */
+public record BudgetViolation(String budget, long limitMillis, long actualMillis, List<TestAction> offendingActions) {
+
+    @Override
+    public String toString() {
+        return String.format("%s: %dms exceeds budget of %dms", budget, actualMillis, limitMillis);
+    }
+}
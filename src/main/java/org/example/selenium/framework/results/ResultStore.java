@@ -0,0 +1,326 @@
+package org.example.selenium.framework.results;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.listener.TestAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the completed test results of a run within a memory ceiling (results.memory.maxMB). Results that don't fit
+ * are serialized to an append-only spill file in results.spill.directory and read back by offset when accessed,
+ * so a long run doesn't need a heap sized for all its results and actions. The spill file is deleted on close.
+ * <p>
+ * Results are added from test threads as they complete and returned in the order the tests were scheduled.
+ * Memory use of a result is estimated from its actions and strings, it doesn't need to be exact.
+ * </p>
+ * <p>
+ * The spill file is read and written with RandomAccessFile rather than a FileChannel: report generators read the
+ * results in parallel, and an interrupt delivered to any one reader of a shared interruptible channel closes the
+ * channel for all of them. Each read opens its own handle, so readers don't share a file position either.
+ * </p>
+ */
+public class ResultStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ResultStore.class);
+    private final Path spillDirectory;
+    private final long memoryCeilingBytes;
+    private final List<Entry> entries = new ArrayList<>();
+    private long inMemoryBytes;
+    private Path spillPath;
+    private RandomAccessFile spillFile;
+    private long spillSize;
+    private int spilledCount;
+
+    /**
+     * @param spillDirectory Directory the spill file is created in
+     * @param memoryCeilingBytes Estimated bytes of results to keep in memory before spilling, 0 to spill every result
+     */
+    public ResultStore(Path spillDirectory, long memoryCeilingBytes) {
+        this.spillDirectory = spillDirectory;
+        this.memoryCeilingBytes = memoryCeilingBytes;
+    }
+
+    public static ResultStore fromConfig() {
+        return new ResultStore(Paths.get(FrameworkConfig.INSTANCE.getConfig("results.spill.directory", System.getProperty("java.io.tmpdir"))),
+                FrameworkConfig.INSTANCE.getConfigAsInt("results.memory.maxMB", 256) * 1024L * 1024L);
+    }
+
+    /**
+     * Add a completed result. Safe to call from test threads.
+     *
+     * @param sequence Position of the test in the run, results are returned ordered by it
+     * @param result The completed result
+     */
+    public synchronized void add(int sequence, TestResult result) {
+        long size = estimateSize(result);
+        if (inMemoryBytes + size <= memoryCeilingBytes) {
+            inMemoryBytes += size;
+            entries.add(new Entry(sequence, result, -1, 0));
+            return;
+        }
+        try {
+            byte[] bytes = serialize(result);
+            if (spillFile == null) {
+                Files.createDirectories(spillDirectory);
+                spillPath = Files.createTempFile(spillDirectory, "test-results-", ".spill");
+                spillFile = new RandomAccessFile(spillPath.toFile(), "rw");
+                log.info("Test results exceed the memory ceiling of {}MB, spilling to {}", memoryCeilingBytes / (1024 * 1024), spillPath);
+            }
+            spillFile.seek(spillSize);
+            spillFile.write(bytes);
+            entries.add(new Entry(sequence, null, spillSize, bytes.length));
+            spillSize += bytes.length;
+            spilledCount++;
+        } catch (IOException e) {
+            // Keeping the result beats losing it from the reports
+            log.error("Failed to spill result of {} to disk, keeping it in memory", result.getTestName(), e);
+            inMemoryBytes += size;
+            entries.add(new Entry(sequence, result, -1, 0));
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized int spilledCount() {
+        return spilledCount;
+    }
+
+    /**
+     * A read-only view of the results added so far, in scheduling order. Spilled results are read back from disk
+     * on every access, so iterate rather than holding on to the returned elements. The view can be read from
+     * several threads at once, but not after the store is closed.
+     */
+    public synchronized List<TestResult> results() {
+        Entry[] ordered = entries.toArray(Entry[]::new);
+        Arrays.sort(ordered, Comparator.comparingInt(Entry::sequence));
+        Path file = spillPath;
+        return new AbstractList<>() {
+            @Override
+            public TestResult get(int index) {
+                Entry entry = ordered[index];
+                return entry.result() != null ? entry.result() : read(file, entry);
+            }
+
+            @Override
+            public int size() {
+                return ordered.length;
+            }
+        };
+    }
+
+    /**
+     * Read a spilled result through its own file handle, so concurrent readers don't share a file position and
+     * an interrupted reader doesn't affect the others.
+     */
+    private static TestResult read(Path file, Entry entry) {
+        try (RandomAccessFile in = new RandomAccessFile(file.toFile(), "r")) {
+            byte[] bytes = new byte[entry.length()];
+            in.seek(entry.offset());
+            in.readFully(bytes);
+            return deserialize(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spilled test result", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            spillFile.close();
+            Files.deleteIfExists(spillPath);
+        } catch (IOException e) {
+            log.warn("Failed to delete result spill file {}", spillPath, e);
+        }
+        spillFile = null;
+        spillPath = null;
+    }
+
+    private static long estimateSize(TestResult result) {
+        long size = 256 + stringSize(result.error());
+        for (TestAction action : result.testActions()) {
+            size += estimateSize(action);
+        }
+        for (BudgetViolation violation : result.budgetViolations()) {
+            size += 64 + stringSize(violation.budget()) + violation.offendingActions().size() * 8L;
+        }
+        for (ScreenshotRef screenshot : result.screenshots()) {
+            size += 64 + stringSize(screenshot.name()) + stringSize(screenshot.sha256()) + stringSize(screenshot.path());
+        }
+        return size;
+    }
+
+    private static long estimateSize(TestAction action) {
+        return 96 + stringSize(action.action()) + stringSize(action.target()) + stringSize(action.detailMsg())
+                + action.metrics().size() * 64L;
+    }
+
+    private static long stringSize(String string) {
+        return string == null ? 0 : 40 + 2L * string.length();
+    }
+
+    private static byte[] serialize(TestResult result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        Method method = result.testMethod();
+        writeString(out, method.getDeclaringClass().getName());
+        writeString(out, method.getName());
+        out.writeByte(result.status().ordinal());
+        out.writeLong(result.testStartTimestamp());
+        out.writeLong(result.testEndTimestamp());
+        writeString(out, result.error());
+        writeActions(out, result.testActions());
+        out.writeInt(result.budgetViolations().size());
+        for (BudgetViolation violation : result.budgetViolations()) {
+            writeString(out, violation.budget());
+            out.writeLong(violation.limitMillis());
+            out.writeLong(violation.actualMillis());
+            writeActions(out, violation.offendingActions());
+        }
+        TestPhases phases = result.phases();
+        out.writeLong(phases.queuedTimestamp());
+        out.writeLong(phases.startTimestamp());
+        out.writeLong(phases.driverReadyTimestamp());
+        out.writeLong(phases.bodyEndTimestamp());
+        out.writeLong(phases.endTimestamp());
+        out.writeInt(result.screenshots().size());
+        for (ScreenshotRef screenshot : result.screenshots()) {
+            writeString(out, screenshot.name());
+            writeString(out, screenshot.sha256());
+            out.writeLong(screenshot.perceptualHash());
+            writeString(out, screenshot.path());
+            out.writeInt(screenshot.distanceToPrevious());
+            out.writeBoolean(screenshot.changed());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static TestResult deserialize(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Method method = resolveMethod(readString(in), readString(in));
+        TestStatus status = TestStatus.values()[in.readByte()];
+        long startTimestamp = in.readLong();
+        long endTimestamp = in.readLong();
+        String error = readString(in);
+        List<TestAction> actions = readActions(in);
+        int violationCount = in.readInt();
+        List<BudgetViolation> violations = new ArrayList<>(violationCount);
+        for (int i = 0; i < violationCount; i++) {
+            violations.add(new BudgetViolation(readString(in), in.readLong(), in.readLong(), readActions(in)));
+        }
+        TestPhases phases = new TestPhases(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+        int screenshotCount = in.readInt();
+        List<ScreenshotRef> screenshots = new ArrayList<>(screenshotCount);
+        for (int i = 0; i < screenshotCount; i++) {
+            screenshots.add(new ScreenshotRef(readString(in), readString(in), in.readLong(), readString(in), in.readInt(), in.readBoolean()));
+        }
+        return new TestResult(method, status, startTimestamp, endTimestamp, error, actions, violations, phases, screenshots);
+    }
+
+    private static void writeActions(DataOutputStream out, List<TestAction> actions) throws IOException {
+        out.writeInt(actions.size());
+        for (TestAction action : actions) {
+            writeString(out, action.action());
+            writeString(out, action.target());
+            out.writeLong(action.startTimestamp());
+            out.writeLong(action.endTimestamp());
+            out.writeBoolean(action.success());
+            writeString(out, action.detailMsg());
+            out.writeLong(action.transportMicros());
+            out.writeLong(action.spanId());
+            out.writeLong(action.parentSpanId());
+            out.writeInt(action.metrics().size());
+            for (Map.Entry<String, Double> metric : action.metrics().entrySet()) {
+                writeString(out, metric.getKey());
+                out.writeDouble(metric.getValue());
+            }
+        }
+    }
+
+    private static List<TestAction> readActions(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<TestAction> actions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String action = readString(in);
+            String target = readString(in);
+            long startTimestamp = in.readLong();
+            long endTimestamp = in.readLong();
+            boolean success = in.readBoolean();
+            String detailMsg = readString(in);
+            long transportMicros = in.readLong();
+            long spanId = in.readLong();
+            long parentSpanId = in.readLong();
+            int metricCount = in.readInt();
+            Map<String, Double> metrics = metricCount == 0 ? Map.of() : new HashMap<>();
+            for (int m = 0; m < metricCount; m++) {
+                metrics.put(readString(in), in.readDouble());
+            }
+            actions.add(new TestAction(action, target, startTimestamp, endTimestamp, success, detailMsg, transportMicros, spanId, parentSpanId, metrics));
+        }
+        return actions;
+    }
+
+    private static Method resolveMethod(String className, String methodName) throws IOException {
+        try {
+            Class<?> testClass = Class.forName(className, false, ResultStore.class.getClassLoader());
+            for (Method method : testClass.getDeclaredMethods()) {
+                if (method.getName().equals(methodName)) {
+                    return method;
+                }
+            }
+            throw new IOException("Test method not found: " + className + "." + methodName);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Test class not found: " + className, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A stored result: either held in memory or at an offset of the spill file.
+     */
+    private record Entry(int sequence, TestResult result, long offset, int length) {
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.selenium.framework.results;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * How the browser session slots were used over the run, and which chain of tests determined its wall-clock time.
+ * <p>
+ * The run is divided into equal buckets; for each bucket the average number of busy slots (tests holding a
+ * session permit) and queued tests is given. The critical path starts at the test that finished last and
+ * walks back to the test whose end released the slot it was waiting for, until it reaches a test that did
+ * not wait. Its phase totals show whether the run was bound by driver startup, test bodies or teardown.
+ * </p>
+ */
+public record SchedulingTimeline(long runStartTimestamp, long runEndTimestamp, int slots, long bucketMillis,
+                                 List<Bucket> buckets, CriticalPath criticalPath) {
+
+    /**
+     * Slack allowed between the end of a test and the start of the test that took over its slot.
+     */
+    private static final long HANDOVER_TOLERANCE_MILLIS = 50;
+
+    public record Bucket(long offsetMillis, double busySlots, double queuedTests) {
+    }
+
+    public record CriticalPath(List<String> testNames, long driverStartupMillis, long bodyMillis, long teardownMillis, long otherMillis) {
+    }
+
+    /**
+     * Build the timeline of a run. The results are read once and only their names and phase timestamps are kept,
+     * so results spilled by the {@link ResultStore} are not held in memory together.
+     *
+     * @param testResults The results of the run, with their phases
+     * @param slots       The number of concurrent browser sessions allowed
+     * @param bucketCount The number of buckets to divide the run into
+     * @return The timeline, or null if no test has recorded phases
+     */
+    public static SchedulingTimeline of(Iterable<TestResult> testResults, int slots, int bucketCount) {
+        Phases timed = new Phases();
+        for (TestResult result : testResults) {
+            if (!result.phases().equals(TestPhases.NONE)) {
+                timed.add(result.getTestName(), result.phases());
+            }
+        }
+        if (timed.count == 0) {
+            return null;
+        }
+        long runStart = Long.MAX_VALUE;
+        long runEnd = Long.MIN_VALUE;
+        for (int i = 0; i < timed.count; i++) {
+            runStart = Math.min(runStart, timed.queued[i]);
+            runEnd = Math.max(runEnd, timed.end[i]);
+        }
+        long bucketMillis = Math.max(1, (runEnd - runStart + bucketCount - 1) / Math.max(1, bucketCount));
+        int buckets = (int) Math.max(1, (runEnd - runStart + bucketMillis - 1) / bucketMillis);
+
+        double[] busy = new double[buckets];
+        double[] queued = new double[buckets];
+        for (int i = 0; i < timed.count; i++) {
+            spread(busy, runStart, bucketMillis, timed.start[i], timed.end[i]);
+            spread(queued, runStart, bucketMillis, timed.queued[i], timed.start[i]);
+        }
+        List<Bucket> bucketList = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            bucketList.add(new Bucket(i * bucketMillis, busy[i] / bucketMillis, queued[i] / bucketMillis));
+        }
+        return new SchedulingTimeline(runStart, runEnd, slots, bucketMillis, bucketList, criticalPath(timed, runEnd - runStart));
+    }
+
+    /**
+     * Share of the session slots that was busy over the whole run, between 0 and 1.
+     */
+    public double utilisation() {
+        double busySlotMillis = buckets.stream().mapToDouble(Bucket::busySlots).sum() * bucketMillis;
+        long capacity = (runEndTimestamp - runStartTimestamp) * slots;
+        return capacity > 0 ? Math.min(1, busySlotMillis / capacity) : 0;
+    }
+
+    private static void spread(double[] buckets, long runStart, long bucketMillis, long from, long to) {
+        for (long position = from; position < to; ) {
+            int bucket = (int) Math.min(buckets.length - 1, (position - runStart) / bucketMillis);
+            long bucketEnd = runStart + (bucket + 1) * bucketMillis;
+            long until = bucket == buckets.length - 1 ? to : Math.min(to, bucketEnd);
+            buckets[bucket] += until - position;
+            position = until;
+        }
+    }
+
+    private static CriticalPath criticalPath(Phases timed, long wallClockMillis) {
+        // Tests by end time; of tests ending at the same time the first added one is preferred, so it sorts last
+        int[] byEnd = IntStream.range(0, timed.count).boxed()
+                .sorted(Comparator.<Integer>comparingLong(test -> timed.end[test]).thenComparing(Comparator.reverseOrder()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] sortedEnds = new long[byEnd.length];
+        for (int i = 0; i < byEnd.length; i++) {
+            sortedEnds[i] = timed.end[byEnd[i]];
+        }
+
+        List<Integer> path = new ArrayList<>();
+        BitSet onPath = new BitSet(timed.count);
+        int current = byEnd[byEnd.length - 1];
+        while (current >= 0) {
+            path.add(current);
+            onPath.set(current);
+            if (timed.start[current] - timed.queued[current] <= HANDOVER_TOLERANCE_MILLIS) {
+                break;
+            }
+            current = latestEnding(byEnd, sortedEnds, onPath, timed.start[current] + HANDOVER_TOLERANCE_MILLIS);
+        }
+
+        long driverStartup = 0;
+        long body = 0;
+        long teardown = 0;
+        String[] testNames = new String[path.size()];
+        for (int i = 0; i < path.size(); i++) {
+            int test = path.get(i);
+            driverStartup += timed.driverReady[test] - timed.start[test];
+            body += timed.bodyEnd[test] - timed.driverReady[test];
+            teardown += timed.end[test] - timed.bodyEnd[test];
+            // The path is collected from the last test backwards
+            testNames[path.size() - 1 - i] = timed.names[test];
+        }
+        return new CriticalPath(List.of(testNames), driverStartup, body, teardown, Math.max(0, wallClockMillis - driverStartup - body - teardown));
+    }
+
+    /**
+     * The test not on the path yet that ended last, no later than the given time, -1 if there is none.
+     * Only tests on the path are skipped, so finding the whole path costs its length squared at most.
+     */
+    private static int latestEnding(int[] byEnd, long[] sortedEnds, BitSet onPath, long endedBy) {
+        // Position of the last test ending no later than endedBy
+        int low = 0;
+        int high = sortedEnds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedEnds[middle] <= endedBy) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int position = low - 1; position >= 0; position--) {
+            if (!onPath.get(byEnd[position])) {
+                return byEnd[position];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Names and phase timestamps of the timed tests, in columns.
+     */
+    private static final class Phases {
+        String[] names = new String[64];
+        long[] queued = new long[64];
+        long[] start = new long[64];
+        long[] driverReady = new long[64];
+        long[] bodyEnd = new long[64];
+        long[] end = new long[64];
+        int count;
+
+        void add(String name, TestPhases phases) {
+            if (count == names.length) {
+                int capacity = count * 2;
+                names = Arrays.copyOf(names, capacity);
+                queued = Arrays.copyOf(queued, capacity);
+                start = Arrays.copyOf(start, capacity);
+                driverReady = Arrays.copyOf(driverReady, capacity);
+                bodyEnd = Arrays.copyOf(bodyEnd, capacity);
+                end = Arrays.copyOf(end, capacity);
+            }
+            names[count] = name;
+            queued[count] = phases.queuedTimestamp();
+            start[count] = phases.startTimestamp();
+            driverReady[count] = phases.driverReadyTimestamp();
+            bodyEnd[count] = phases.bodyEndTimestamp();
+            end[count] = phases.endTimestamp();
+            count++;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.selenium.framework.results;
+
+/**
+ * A screenshot taken during a test, as stored in the screenshot store.
+ *
+ * @param name Name of the screenshot, unique per test and label
+ * @param sha256 Content hash of the stored image; perceptually identical screenshots share one stored image
+ * @param perceptualHash Difference hash of the screenshot
+ * @param path File of the stored image
+ * @param distanceToPrevious Perceptual hash distance (0-64) to the capture of the same name in the previous run,
+ *                           -1 if there is none
+ * @param changed Whether the distance to the previous run's capture exceeds screenshot.change.distance
+ */
+public record ScreenshotRef(String name, String sha256, long perceptualHash, String path, int distanceToPrevious, boolean changed) {
+}
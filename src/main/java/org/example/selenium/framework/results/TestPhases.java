@@ -0,0 +1,32 @@
+package org.example.selenium.framework.results;
+
+/**
+ * Lifecycle of a test as epoch millisecond timestamps: queued for a session slot, started (slot acquired),
+ * driver ready, body ended and torn down (driver quit). Phases a test never reached have the timestamp of the
+ * phase before them, so their duration is 0.
+ */
+public record TestPhases(long queuedTimestamp, long startTimestamp, long driverReadyTimestamp, long bodyEndTimestamp, long endTimestamp) {
+    public static final TestPhases NONE = new TestPhases(0, 0, 0, 0, 0);
+
+    public long queuedMillis() {
+        return startTimestamp - queuedTimestamp;
+    }
+
+    public long driverStartupMillis() {
+        return driverReadyTimestamp - startTimestamp;
+    }
+
+    public long bodyMillis() {
+        return bodyEndTimestamp - driverReadyTimestamp;
+    }
+
+    public long teardownMillis() {
+        return endTimestamp - bodyEndTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("queued=%dms, driver startup=%dms, body=%dms, teardown=%dms",
+                queuedMillis(), driverStartupMillis(), bodyMillis(), teardownMillis());
+    }
+}
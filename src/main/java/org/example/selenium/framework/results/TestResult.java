@@ -5,7 +5,28 @@ import org.example.selenium.framework.listener.TestAction;
 import java.lang.reflect.Method;
 import java.util.List;
 
-public record TestResult(Method testMethod, TestStatus status, long testStartTimestamp, long testEndTimestamp, String error, List<TestAction> testActions) {
+public record TestResult(Method testMethod, TestStatus status, long testStartTimestamp, long testEndTimestamp, String error, List<TestAction> testActions, List<BudgetViolation> budgetViolations, TestPhases phases,
+                         List<ScreenshotRef> screenshots) {
+
+    public TestResult(Method testMethod, TestStatus status, long testStartTimestamp, long testEndTimestamp, String error, List<TestAction> testActions) {
+        this(testMethod, status, testStartTimestamp, testEndTimestamp, error, testActions, List.of());
+    }
+
+    public TestResult(Method testMethod, TestStatus status, long testStartTimestamp, long testEndTimestamp, String error, List<TestAction> testActions, List<BudgetViolation> budgetViolations) {
+        this(testMethod, status, testStartTimestamp, testEndTimestamp, error, testActions, budgetViolations, TestPhases.NONE);
+    }
+
+    public TestResult(Method testMethod, TestStatus status, long testStartTimestamp, long testEndTimestamp, String error, List<TestAction> testActions, List<BudgetViolation> budgetViolations, TestPhases phases) {
+        this(testMethod, status, testStartTimestamp, testEndTimestamp, error, testActions, budgetViolations, phases, List.of());
+    }
+
+    public TestResult withPhases(TestPhases phases) {
+        return new TestResult(testMethod, status, testStartTimestamp, testEndTimestamp, error, testActions, budgetViolations, phases, screenshots);
+    }
+
+    public TestResult withScreenshots(List<ScreenshotRef> screenshots) {
+        return new TestResult(testMethod, status, testStartTimestamp, testEndTimestamp, error, testActions, budgetViolations, phases, screenshots);
+    }
 
     public String getTestName() {
         return testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
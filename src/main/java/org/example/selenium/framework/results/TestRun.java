@@ -1,6 +1,9 @@
 package org.example.selenium.framework.results;
 
+import org.example.selenium.framework.history.Regression;
+import org.example.selenium.framework.metrics.LatencySummary;
+
 import java.util.List;
 
-public record TestRun(List<TestResult> testResults) {
+public record TestRun(List<TestResult> testResults, List<LatencySummary> metrics, List<Regression> regressions, SchedulingTimeline timeline) {
 }
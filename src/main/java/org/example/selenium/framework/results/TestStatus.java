@@ -2,5 +2,9 @@ package org.example.selenium.framework.results;
 
 public enum TestStatus {
     PASSED,
-    SKIPPED, FAILED
+    SKIPPED, FAILED,
+    /**
+     * Functionally passed, but exceeded its performance budget while perf.budget.mode is fail.
+     */
+    BUDGET_EXCEEDED
 }
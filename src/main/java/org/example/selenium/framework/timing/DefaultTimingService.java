@@ -1,38 +1,93 @@
 package org.example.selenium.framework.timing;
 
+import org.example.selenium.framework.jfr.ActionEvent;
 import org.example.selenium.framework.listener.TestAction;
+import org.example.selenium.framework.metrics.RunMetrics;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of the TimingService interface.
  * Tracks timing information for operations in a thread-safe manner.
+ * An operation started while another one is open on the same thread becomes its child span.
+ * Operations recorded with {@link #recordCompletedTiming} keep their target and detail suppliers and only render
+ * them in {@link #getTimings()}, unless per-target metrics or a JFR recording need the target earlier.
  */
 public class DefaultTimingService implements TimingService {
-    private final List<TestAction> timings = Collections.synchronizedList(new ArrayList<>());
-    private final ConcurrentMap<String, Long> startTimes = new ConcurrentHashMap<>();
+    // Completed operations, rendered when the timings are read
+    private final List<Supplier<TestAction>> timings = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentMap<String, ActionStart> startTimes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Long>> openSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private final AtomicLong spanIds = new AtomicLong();
 
     @Override
     public void startTiming(String operationType, String target) {
         String key = generateKey(operationType, target);
-        startTimes.put(key, System.currentTimeMillis());
+        Deque<Long> spans = openSpans.get();
+        long spanId = spanIds.incrementAndGet();
+        long parentSpanId = spans.isEmpty() ? 0 : spans.peekLast();
+        spans.addLast(spanId);
+        ActionStart previous = startTimes.put(key, new ActionStart(System.currentTimeMillis(), TransportTimings.currentThreadNanos(), spanId, parentSpanId));
+        if (previous != null) {
+            // The earlier start of the same operation is superseded and will never end
+            spans.removeLastOccurrence(previous.spanId());
+        }
     }
 
     @Override
     public void endTiming(String operationType, String target, boolean success, String detailMsg) {
+        endTiming(operationType, target, success, detailMsg, null);
+    }
+
+    @Override
+    public void endTiming(String operationType, String target, boolean success, String detailMsg, Supplier<Map<String, Double>> metrics) {
         String key = generateKey(operationType, target);
-        Long startTime = startTimes.remove(key);
+        ActionStart start = startTimes.remove(key);
         
-        if (startTime != null) {
+        if (start != null) {
+            openSpans.get().removeLastOccurrence(start.spanId());
+            long endTimestamp = System.currentTimeMillis();
             String action = success ? operationType : operationType + " (Failed)";
-            timings.add(new TestAction(action, target, startTime, System.currentTimeMillis(), success, detailMsg));
+            long transportMicros = (TransportTimings.currentThreadNanos() - start.transportNanos()) / 1_000;
+            Map<String, Double> collectedMetrics = metrics != null ? metrics.get() : Map.of();
+            TestAction completed = new TestAction(action, target, start.timestamp(), endTimestamp, success, detailMsg,
+                    transportMicros, start.spanId(), start.parentSpanId(), collectedMetrics);
+            timings.add(() -> completed);
+            long elapsedNanos = (endTimestamp - start.timestamp()) * 1_000_000;
+            RunMetrics.INSTANCE.recordAction(operationType, target, elapsedNanos, success);
+            ActionEvent.commit(operationType, target, success, elapsedNanos, start.spanId(), start.parentSpanId());
         }
     }
 
+    /**
+     * Records the operation right away; target and detail are rendered when the timings are read.
+     */
+    @Override
+    public void recordCompletedTiming(String operationType, Supplier<String> target, long startNanos, boolean success, Supplier<String> detailMsg) {
+        long endNanos = System.nanoTime();
+        long endTimestamp = System.currentTimeMillis();
+        long elapsedNanos = endNanos - startNanos;
+        long startTimestamp = endTimestamp - elapsedNanos / 1_000_000;
+        Deque<Long> spans = openSpans.get();
+        long spanId = spanIds.incrementAndGet();
+        long parentSpanId = spans.isEmpty() ? 0 : spans.peekLast();
+        String renderedTarget = RunMetrics.INSTANCE.isRecordingTargets() || ActionEvent.isRecording() ? target.get() : null;
+        String action = success ? operationType : operationType + " (Failed)";
+        timings.add(() -> new TestAction(action, renderedTarget != null ? renderedTarget : target.get(), startTimestamp, endTimestamp, success,
+                detailMsg.get(), 0, spanId, parentSpanId, Map.of()));
+        RunMetrics.INSTANCE.recordAction(operationType, renderedTarget, elapsedNanos, success);
+        ActionEvent.commit(operationType, renderedTarget, success, elapsedNanos, spanId, parentSpanId);
+    }
+
     @Override
     public void endTiming(String operationType, String target, boolean success) {
         endTiming(operationType, target, success, null);
@@ -40,7 +95,12 @@ public class DefaultTimingService implements TimingService {
 
     @Override
     public List<TestAction> getTimings() {
-        return new ArrayList<>(timings);
+        List<Supplier<TestAction>> completed = new ArrayList<>(timings);
+        List<TestAction> rendered = new ArrayList<>(completed.size());
+        for (Supplier<TestAction> timing : completed) {
+            rendered.add(timing.get());
+        }
+        return rendered;
     }
     
     /**
@@ -50,4 +110,10 @@ public class DefaultTimingService implements TimingService {
     private String generateKey(String operationType, String target) {
         return Thread.currentThread().getId() + ":" + operationType + ":" + target;
     }
-}
\ No newline at end of file
+
+    /**
+     * Start of an operation: wall-clock timestamp, the thread's transport total at that moment and its span.
+     */
+    private record ActionStart(long timestamp, long transportNanos, long spanId, long parentSpanId) {
+    }
+}
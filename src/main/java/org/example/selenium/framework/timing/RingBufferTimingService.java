@@ -0,0 +1,335 @@
+package org.example.selenium.framework.timing;
+
+import org.example.selenium.framework.jfr.ActionEvent;
+import org.example.selenium.framework.listener.TestAction;
+import org.example.selenium.framework.metrics.RunMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * High-throughput implementation of the TimingService interface.
+ * <p>
+ * Every thread records into its own buffer of primitive arrays, so recording needs no locking, no key
+ * building and no per-event objects. Operations are timed with {@link System#nanoTime()}, which is converted
+ * to wall-clock time through an anchor taken once per JVM. {@link TestAction} records are only created when
+ * {@link #getTimings()} is called.
+ * </p>
+ * <p>
+ * Completed operations are kept in a ring buffer per thread, which starts small and doubles as it fills up to
+ * its capacity, so threads that record little don't hold full-size arrays. Once it is full the oldest operations
+ * are overwritten, which is logged once per overflow. {@link #getTimings()} is meant to be called once the timed session is idle.
+ * </p>
+ * <p>
+ * An operation started while another one is open on the same thread becomes its child span. Span ids combine
+ * the buffer number with a per-buffer sequence, so they are unique without any shared counter.
+ * </p>
+ * <p>
+ * Operations recorded with {@link #recordCompletedTiming} keep their target and detail suppliers and only render
+ * them in {@link #getTimings()}, unless per-target metrics or a JFR recording need the target earlier.
+ * </p>
+ */
+public class RingBufferTimingService implements TimingService {
+    private static final Logger log = LoggerFactory.getLogger(RingBufferTimingService.class);
+    private static final long ANCHOR_MILLIS = System.currentTimeMillis();
+    private static final long ANCHOR_NANOS = System.nanoTime();
+
+    private final int capacity;
+    private final List<ThreadBuffer> buffers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger bufferIds = new AtomicInteger();
+    private final ThreadLocal<ThreadBuffer> threadBuffer = ThreadLocal.withInitial(this::registerBuffer);
+
+    /**
+     * Create a new RingBufferTimingService.
+     *
+     * @param capacity Number of completed operations kept per thread, rounded up to a power of two
+     */
+    public RingBufferTimingService(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+    }
+
+    @Override
+    public void startTiming(String operationType, String target) {
+        threadBuffer.get().start(operationType, target, System.nanoTime(), TransportTimings.currentThreadNanos());
+    }
+
+    @Override
+    public void endTiming(String operationType, String target, boolean success, String detailMsg) {
+        endTiming(operationType, target, success, detailMsg, null);
+    }
+
+    @Override
+    public void endTiming(String operationType, String target, boolean success, String detailMsg, Supplier<Map<String, Double>> metrics) {
+        threadBuffer.get().end(operationType, target, success, detailMsg, metrics, System.nanoTime(), TransportTimings.currentThreadNanos());
+    }
+
+    @Override
+    public void recordCompletedTiming(String operationType, Supplier<String> target, long startNanos, boolean success, Supplier<String> detailMsg) {
+        threadBuffer.get().record(operationType, target, startNanos, System.nanoTime(), success, detailMsg);
+    }
+
+    @Override
+    public void endTiming(String operationType, String target, boolean success) {
+        endTiming(operationType, target, success, null);
+    }
+
+    @Override
+    public List<TestAction> getTimings() {
+        List<TestAction> timings = new ArrayList<>();
+        for (ThreadBuffer buffer : buffers) {
+            buffer.materialise(timings);
+        }
+        // Keep the completion order of DefaultTimingService when several threads recorded operations
+        timings.sort(Comparator.comparingLong(TestAction::endTimestamp));
+        return timings;
+    }
+
+    private ThreadBuffer registerBuffer() {
+        ThreadBuffer buffer = new ThreadBuffer(bufferIds.incrementAndGet(), capacity);
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private static long toEpochMillis(long nanos) {
+        return ANCHOR_MILLIS + (nanos - ANCHOR_NANOS) / 1_000_000;
+    }
+
+    /**
+     * Timing data of a single thread. Only the owning thread writes; readers see completed operations
+     * up to the last published {@link #written} count.
+     */
+    private static final class ThreadBuffer {
+        private static final int INITIAL_OPEN_CAPACITY = 16;
+        private static final int INITIAL_CAPACITY = 64;
+
+        // Operations that have been started but not ended yet, most recent last
+        private String[] openOperations = new String[INITIAL_OPEN_CAPACITY];
+        private String[] openTargets = new String[INITIAL_OPEN_CAPACITY];
+        private long[] openStartNanos = new long[INITIAL_OPEN_CAPACITY];
+        private long[] openTransportNanos = new long[INITIAL_OPEN_CAPACITY];
+        private long[] openSpanIds = new long[INITIAL_OPEN_CAPACITY];
+        private long[] openParentSpanIds = new long[INITIAL_OPEN_CAPACITY];
+        private int openCount;
+        private final long spanIdBase;
+        private long spanSequence;
+
+        // Completed operations, grown up to the capacity on demand and a ring from then on
+        private final int capacity;
+        private volatile Slots slots;
+        private volatile long written;
+        // Operations dropped by overflow that have been reported, only used by readers
+        private long reportedDropped;
+
+        ThreadBuffer(int bufferId, int capacity) {
+            this.spanIdBase = (long) bufferId << 32;
+            this.capacity = capacity;
+            this.slots = new Slots(Math.min(INITIAL_CAPACITY, capacity));
+        }
+
+        void start(String operationType, String target, long nanos, long transport) {
+            if (openCount == openOperations.length) {
+                growOpen();
+            }
+            openOperations[openCount] = operationType;
+            openTargets[openCount] = target;
+            openStartNanos[openCount] = nanos;
+            openTransportNanos[openCount] = transport;
+            openSpanIds[openCount] = spanIdBase | ++spanSequence;
+            openParentSpanIds[openCount] = openCount > 0 ? openSpanIds[openCount - 1] : 0;
+            openCount++;
+        }
+
+        void end(String operationType, String target, boolean success, String detailMsg,
+                 Supplier<Map<String, Double>> collectMetrics, long nanos, long transport) {
+            int open = findOpen(operationType, target);
+            if (open < 0) {
+                return;
+            }
+            Map<String, Double> collected = collectMetrics != null ? collectMetrics.get() : Map.of();
+
+            long sequence = written;
+            Slots completed = slotsFor(sequence);
+            int slot = (int) (sequence & completed.mask);
+            completed.operations[slot] = operationType;
+            completed.targets[slot] = target;
+            completed.details[slot] = detailMsg;
+            completed.deferredTargets[slot] = null;
+            completed.deferredDetails[slot] = null;
+            completed.metrics[slot] = collected;
+            completed.startNanos[slot] = openStartNanos[open];
+            completed.endNanos[slot] = nanos;
+            completed.transportNanos[slot] = transport - openTransportNanos[open];
+            completed.spanIds[slot] = openSpanIds[open];
+            completed.parentSpanIds[slot] = openParentSpanIds[open];
+            completed.successes[slot] = success;
+            removeOpen(open);
+            written = sequence + 1;
+
+            long elapsedNanos = nanos - completed.startNanos[slot];
+            RunMetrics.INSTANCE.recordAction(operationType, target, elapsedNanos, success);
+            ActionEvent.commit(operationType, target, success, elapsedNanos, completed.spanIds[slot], completed.parentSpanIds[slot]);
+        }
+
+        void record(String operationType, Supplier<String> target, long startNanos, long endNanos, boolean success, Supplier<String> detailMsg) {
+            long sequence = written;
+            Slots completed = slotsFor(sequence);
+            int slot = (int) (sequence & completed.mask);
+            completed.operations[slot] = operationType;
+            completed.targets[slot] = null;
+            completed.details[slot] = null;
+            completed.deferredTargets[slot] = target;
+            completed.deferredDetails[slot] = detailMsg;
+            completed.metrics[slot] = Map.of();
+            completed.startNanos[slot] = startNanos;
+            completed.endNanos[slot] = endNanos;
+            completed.transportNanos[slot] = 0;
+            completed.spanIds[slot] = spanIdBase | ++spanSequence;
+            completed.parentSpanIds[slot] = openCount > 0 ? openSpanIds[openCount - 1] : 0;
+            completed.successes[slot] = success;
+            written = sequence + 1;
+
+            long elapsedNanos = endNanos - startNanos;
+            RunMetrics.INSTANCE.recordAction(operationType, RunMetrics.INSTANCE.isRecordingTargets() ? target.get() : null, elapsedNanos, success);
+            if (ActionEvent.isRecording()) {
+                ActionEvent.commit(operationType, target.get(), success, elapsedNanos, completed.spanIds[slot], completed.parentSpanIds[slot]);
+            }
+        }
+
+        synchronized void materialise(List<TestAction> timings) {
+            long total = written;
+            // Read after written: holds every operation up to total, a newer copy holds them as well
+            Slots completed = slots;
+            long first = Math.max(0, total - completed.operations.length);
+            if (first > reportedDropped) {
+                log.warn("Timing buffer overflow: {} oldest operations were dropped, increase timing.ringBuffer.capacity ({})",
+                        first - reportedDropped, capacity);
+                reportedDropped = first;
+            }
+            for (long sequence = first; sequence < total; sequence++) {
+                int slot = (int) (sequence & completed.mask);
+                boolean success = completed.successes[slot];
+                String action = success ? completed.operations[slot] : completed.operations[slot] + " (Failed)";
+                String target = completed.deferredTargets[slot] != null ? completed.deferredTargets[slot].get() : completed.targets[slot];
+                String detailMsg = completed.deferredDetails[slot] != null ? completed.deferredDetails[slot].get() : completed.details[slot];
+                timings.add(new TestAction(action, target,
+                        toEpochMillis(completed.startNanos[slot]), toEpochMillis(completed.endNanos[slot]),
+                        success, detailMsg, completed.transportNanos[slot] / 1_000, completed.spanIds[slot], completed.parentSpanIds[slot],
+                        completed.metrics[slot]));
+            }
+        }
+
+        /**
+         * The slots to write the given sequence to, doubled first while the buffer is filling up for the first time.
+         */
+        private Slots slotsFor(long sequence) {
+            Slots current = slots;
+            if (sequence == current.operations.length && current.operations.length < capacity) {
+                current = current.grow(Math.min(capacity, current.operations.length * 2));
+                slots = current;
+            }
+            return current;
+        }
+
+        private int findOpen(String operationType, String target) {
+            for (int i = openCount - 1; i >= 0; i--) {
+                if ((openOperations[i] == operationType || openOperations[i].equals(operationType))
+                        && (openTargets[i] == target || Objects.equals(openTargets[i], target))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void removeOpen(int index) {
+            int moved = openCount - index - 1;
+            if (moved > 0) {
+                System.arraycopy(openOperations, index + 1, openOperations, index, moved);
+                System.arraycopy(openTargets, index + 1, openTargets, index, moved);
+                System.arraycopy(openStartNanos, index + 1, openStartNanos, index, moved);
+                System.arraycopy(openTransportNanos, index + 1, openTransportNanos, index, moved);
+                System.arraycopy(openSpanIds, index + 1, openSpanIds, index, moved);
+                System.arraycopy(openParentSpanIds, index + 1, openParentSpanIds, index, moved);
+            }
+            openCount--;
+            openOperations[openCount] = null;
+            openTargets[openCount] = null;
+        }
+
+        private void growOpen() {
+            int newCapacity = openOperations.length * 2;
+            openOperations = Arrays.copyOf(openOperations, newCapacity);
+            openTargets = Arrays.copyOf(openTargets, newCapacity);
+            openStartNanos = Arrays.copyOf(openStartNanos, newCapacity);
+            openTransportNanos = Arrays.copyOf(openTransportNanos, newCapacity);
+            openSpanIds = Arrays.copyOf(openSpanIds, newCapacity);
+            openParentSpanIds = Arrays.copyOf(openParentSpanIds, newCapacity);
+        }
+    }
+
+    /**
+     * Completed operations as parallel arrays, indexed by sequence modulo their length.
+     */
+    private static final class Slots {
+        private final int mask;
+        private final String[] operations;
+        private final String[] targets;
+        private final String[] details;
+        private final Supplier<String>[] deferredTargets;
+        private final Supplier<String>[] deferredDetails;
+        private final Map<String, Double>[] metrics;
+        private final long[] startNanos;
+        private final long[] endNanos;
+        private final long[] transportNanos;
+        private final long[] spanIds;
+        private final long[] parentSpanIds;
+        private final boolean[] successes;
+
+        // Generic arrays can only be created raw
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Slots(int capacity) {
+            this.mask = capacity - 1;
+            this.operations = new String[capacity];
+            this.targets = new String[capacity];
+            this.details = new String[capacity];
+            this.deferredTargets = (Supplier<String>[]) new Supplier[capacity];
+            this.deferredDetails = (Supplier<String>[]) new Supplier[capacity];
+            this.metrics = (Map<String, Double>[]) new Map[capacity];
+            this.startNanos = new long[capacity];
+            this.endNanos = new long[capacity];
+            this.transportNanos = new long[capacity];
+            this.spanIds = new long[capacity];
+            this.parentSpanIds = new long[capacity];
+            this.successes = new boolean[capacity];
+        }
+
+        /**
+         * A copy with more room. Only valid before the ring wrapped, when sequence and slot are the same.
+         */
+        Slots grow(int newCapacity) {
+            Slots grown = new Slots(newCapacity);
+            int length = operations.length;
+            System.arraycopy(operations, 0, grown.operations, 0, length);
+            System.arraycopy(targets, 0, grown.targets, 0, length);
+            System.arraycopy(details, 0, grown.details, 0, length);
+            System.arraycopy(deferredTargets, 0, grown.deferredTargets, 0, length);
+            System.arraycopy(deferredDetails, 0, grown.deferredDetails, 0, length);
+            System.arraycopy(metrics, 0, grown.metrics, 0, length);
+            System.arraycopy(startNanos, 0, grown.startNanos, 0, length);
+            System.arraycopy(endNanos, 0, grown.endNanos, 0, length);
+            System.arraycopy(transportNanos, 0, grown.transportNanos, 0, length);
+            System.arraycopy(spanIds, 0, grown.spanIds, 0, length);
+            System.arraycopy(parentSpanIds, 0, grown.parentSpanIds, 0, length);
+            System.arraycopy(successes, 0, grown.successes, 0, length);
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.selenium.framework.timing;
+
+/**
+ * Static utility class for grouping test code into named steps.
+ * A step is timed as an operation of type "Step"; every action performed inside it becomes its child span,
+ * which gives the hierarchy test, then step, then driver command.
+ */
+public class Steps {
+    private static final String STEP_OPERATION = "Step";
+    private static final ThreadLocal<TimingService> TIMING_SERVICE = new ThreadLocal<>();
+
+    /**
+     * Initialize the steps with the timing service of the current test.
+     * This should be called at the beginning of each test.
+     *
+     * @param timingService The timing service to record steps with
+     */
+    public static void init(TimingService timingService) {
+        TIMING_SERVICE.set(timingService);
+    }
+
+    /**
+     * Clean up the thread local resources.
+     * This should be called at the end of each test.
+     */
+    public static void cleanup() {
+        TIMING_SERVICE.remove();
+    }
+
+    /**
+     * Run the given code as a named step.
+     *
+     * @param name Name of the step
+     * @param body Code of the step
+     */
+    public static void step(String name, Runnable body) {
+        TimingService timingService = TIMING_SERVICE.get();
+        if (timingService == null) {
+            body.run();
+            return;
+        }
+
+        timingService.startTiming(STEP_OPERATION, name);
+        try {
+            body.run();
+            timingService.endTiming(STEP_OPERATION, name, true);
+        } catch (RuntimeException | Error e) {
+            timingService.endTiming(STEP_OPERATION, name, false, e.toString());
+            throw e;
+        }
+    }
+}
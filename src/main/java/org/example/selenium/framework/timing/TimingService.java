@@ -3,6 +3,8 @@ package org.example.selenium.framework.timing;
 import org.example.selenium.framework.listener.TestAction;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Interface for a service that tracks timing information for operations.
@@ -28,6 +30,33 @@ public interface TimingService {
 
     void endTiming(String operationType, String target, boolean success);
 
+    /**
+     * End timing an operation and attach measurements collected once it has completed.
+     * The end of the operation is taken before the supplier is called, so collecting the metrics
+     * does not count towards its duration. The supplier is not called if the operation was never started.
+     *
+     * @param operationType The type of operation that was timed
+     * @param target The target of the operation
+     * @param success Whether the operation was successful
+     * @param detailMsg Optional detail message
+     * @param metrics Supplier of the named metrics to attach, may be null
+     */
+    void endTiming(String operationType, String target, boolean success, String detailMsg, Supplier<Map<String, Double>> metrics);
+
+    /**
+     * Record an operation that has already completed, such as an assertion whose value was evaluated beforehand.
+     * No start has to be matched, so no key is built; the operation becomes a child of the span open on the
+     * calling thread. Target and detail are suppliers so that implementations can render them only when the
+     * timings are read. They may be called later and from another thread, and must not depend on mutable state.
+     *
+     * @param operationType The type of operation that was timed
+     * @param target Supplier of the target of the operation
+     * @param startNanos {@link System#nanoTime()} at the start of the operation
+     * @param success Whether the operation was successful
+     * @param detailMsg Supplier of the detail message
+     */
+    void recordCompletedTiming(String operationType, Supplier<String> target, long startNanos, boolean success, Supplier<String> detailMsg);
+
     /**
      * Get all recorded timing information.
      *
@@ -0,0 +1,25 @@
+package org.example.selenium.framework.timing;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+
+/**
+ * Factory for creating timing services.
+ * The implementation is selected with the {@code timing.service} configuration property.
+ */
+public class TimingServiceFactory {
+    /**
+     * Create a TimingService of the configured type.
+     * Supported types are "default" ({@link DefaultTimingService}) and "ringbuffer" ({@link RingBufferTimingService}).
+     *
+     * @return A new TimingService
+     */
+    public static TimingService createTimingService() {
+        String implementation = FrameworkConfig.INSTANCE.getConfig("timing.service", "default");
+
+        return switch (implementation.toLowerCase()) {
+            case "default" -> new DefaultTimingService();
+            case "ringbuffer" -> new RingBufferTimingService(FrameworkConfig.INSTANCE.getConfigAsInt("timing.ringBuffer.capacity", 4096));
+            default -> throw new IllegalArgumentException("Unsupported timing service specified: " + implementation);
+        };
+    }
+}
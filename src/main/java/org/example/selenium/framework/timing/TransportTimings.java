@@ -0,0 +1,28 @@
+package org.example.selenium.framework.timing;
+
+/**
+ * Per-thread accumulator of the time spent in HTTP round trips to the driver.
+ * WebDriver commands are executed synchronously on the calling thread, so the difference between two readings
+ * taken on the same thread is the transport time of all commands issued in between.
+ */
+public class TransportTimings {
+    private static final ThreadLocal<long[]> TRANSPORT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Add the duration of a single HTTP round trip to the current thread's total.
+     *
+     * @param nanos Duration of the round trip in nanoseconds
+     */
+    public static void record(long nanos) {
+        TRANSPORT_NANOS.get()[0] += nanos;
+    }
+
+    /**
+     * Get the total transport time recorded on the current thread so far.
+     *
+     * @return Total transport time in nanoseconds
+     */
+    public static long currentThreadNanos() {
+        return TRANSPORT_NANOS.get()[0];
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.selenium.framework.visual;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.results.ScreenshotRef;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Matches a screenshot against a stored baseline image, see {@link VisualMatchers#matchesBaseline(String)}.
+ * <p>
+ * Baselines are PNG files named after the baseline in visual.baseline.directory. A missing baseline is created
+ * from the screenshot when visual.baseline.create is enabled, and with visual.baseline.update every screenshot
+ * replaces its baseline. On a mismatch the screenshot and a diff image are kept in the {@link ScreenshotStore} of the
+ * run, as "&lt;name&gt;/actual" and "&lt;name&gt;/diff". Outside a test run they go to a store of their own.
+ * </p>
+ */
+public class BaselineMatcher extends TypeSafeDiagnosingMatcher<BufferedImage> {
+    private static final Logger log = LoggerFactory.getLogger(BaselineMatcher.class);
+    private final String name;
+    private final ComparisonOptions options;
+    // Hamcrest evaluates a failing matcher again to describe the mismatch, don't compare twice. The image is only
+    // referenced weakly: assertion events keep their matcher until the test's timings are read.
+    private WeakReference<BufferedImage> lastImage;
+    private Outcome lastOutcome;
+
+    BaselineMatcher(String name, ComparisonOptions options) {
+        this.name = name;
+        this.options = options;
+    }
+
+    /**
+     * Exclude regions of the screenshot, in image pixels, from the comparison.
+     */
+    public BaselineMatcher ignoring(Rectangle... regions) {
+        return new BaselineMatcher(name, options.ignoring(regions));
+    }
+
+    /**
+     * @param pixelTolerance Largest difference of a colour channel (0-255) at which two pixels still count as equal
+     * @param maxDiffRatio Largest fraction of differing pixels at which the images still match
+     */
+    public BaselineMatcher withTolerance(int pixelTolerance, double maxDiffRatio) {
+        return new BaselineMatcher(name, options.withTolerance(pixelTolerance, maxDiffRatio));
+    }
+
+    @Override
+    protected boolean matchesSafely(BufferedImage image, Description mismatchDescription) {
+        Outcome outcome = evaluate(image);
+        if (!outcome.matches()) {
+            mismatchDescription.appendText(outcome.message());
+        }
+        return outcome.matches();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(String.format("screenshot matching baseline \"%s\" (pixel tolerance %d, at most %.3f%% differing pixels%s)",
+                name, options.pixelTolerance(), options.maxDiffRatio() * 100,
+                options.ignoreRegions().isEmpty() ? "" : ", " + options.ignoreRegions().size() + " ignored regions"));
+    }
+
+    private synchronized Outcome evaluate(BufferedImage image) {
+        if (lastImage == null || lastImage.get() != image) {
+            lastOutcome = compare(image);
+            lastImage = new WeakReference<>(image);
+        }
+        return lastOutcome;
+    }
+
+    private Outcome compare(BufferedImage image) {
+        Path baselineFile = Paths.get(FrameworkConfig.INSTANCE.getConfig("visual.baseline.directory", "src/test/resources/visual-baselines"))
+                .resolve(fileName() + ".png");
+        try {
+            boolean update = FrameworkConfig.INSTANCE.getConfigAsBoolean("visual.baseline.update");
+            if (update || !Files.exists(baselineFile)) {
+                if (!update && !FrameworkConfig.INSTANCE.getConfigAsBoolean("visual.baseline.create")) {
+                    return new Outcome(false, "no baseline at " + baselineFile);
+                }
+                write(image, baselineFile);
+                log.warn("Baseline \"{}\" {} from the current screenshot: {}", name, update ? "updated" : "created", baselineFile);
+                return new Outcome(true, null);
+            }
+
+            BufferedImage baseline = ImageIO.read(baselineFile.toFile());
+            if (baseline == null) {
+                return new Outcome(false, "baseline is not a readable image: " + baselineFile);
+            }
+            long startNanos = System.nanoTime();
+            ComparisonResult result = ImageComparator.compare(baseline, image, options);
+            log.debug("Compared screenshot with baseline \"{}\" in {}ms: {}", name, (System.nanoTime() - startNanos) / 1_000_000, result);
+            if (result.matches()) {
+                return new Outcome(true, null);
+            }
+
+            return new Outcome(false, result + storeMismatch(image, result));
+        } catch (IOException e) {
+            log.error("Visual comparison with baseline \"{}\" failed", name, e);
+            return new Outcome(false, "comparison failed: " + e);
+        }
+    }
+
+    /**
+     * Keep the screenshot and diff image of a mismatch in the screenshot store.
+     *
+     * @return Where they are, to append to the mismatch description
+     */
+    private String storeMismatch(BufferedImage image, ComparisonResult result) throws IOException {
+        ScreenshotStore runStore = ScreenshotStore.current();
+        try (ScreenshotStore ownStore = runStore == null ? ScreenshotStore.fromConfig("visual-" + System.currentTimeMillis()) : null) {
+            ScreenshotStore store = runStore != null ? runStore : ownStore;
+            ScreenshotRef actual = store.store(name + "/actual", image);
+            String stored = ", screenshot: " + actual.path();
+            if (result.diffImage() != null) {
+                stored += ", diff image: " + store.store(name + "/diff", result.diffImage()).path();
+            }
+            return stored;
+        }
+    }
+
+    private String fileName() {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static void write(BufferedImage image, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        if (!ImageIO.write(image, "png", file.toFile())) {
+            throw new IOException("No PNG writer available");
+        }
+    }
+
+    private record Outcome(boolean matches, String message) {
+    }
+}
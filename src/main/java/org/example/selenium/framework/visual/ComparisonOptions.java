@@ -0,0 +1,49 @@
+package org.example.selenium.framework.visual;
+
+import org.example.selenium.framework.config.FrameworkConfig;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of an image comparison.
+ *
+ * @param pixelTolerance Largest difference of a colour channel (0-255) at which two pixels still count as equal
+ * @param maxDiffRatio Largest fraction of differing pixels at which the images still match
+ * @param tileSize Edge length of the square tiles compared in parallel
+ * @param ignoreRegions Regions excluded from the comparison, e.g. clocks or ads
+ */
+public record ComparisonOptions(int pixelTolerance, double maxDiffRatio, int tileSize, List<Rectangle> ignoreRegions) {
+
+    public ComparisonOptions {
+        if (pixelTolerance < 0 || pixelTolerance > 255) {
+            throw new IllegalArgumentException("Pixel tolerance must be between 0 and 255: " + pixelTolerance);
+        }
+        if (maxDiffRatio < 0 || maxDiffRatio > 1) {
+            throw new IllegalArgumentException("Maximum diff ratio must be between 0 and 1: " + maxDiffRatio);
+        }
+        if (tileSize < 16) {
+            throw new IllegalArgumentException("Tile size must be at least 16: " + tileSize);
+        }
+        ignoreRegions = List.copyOf(ignoreRegions);
+    }
+
+    public static ComparisonOptions fromConfig() {
+        return new ComparisonOptions(
+                FrameworkConfig.INSTANCE.getConfigAsInt("visual.tolerance.pixel", 16),
+                FrameworkConfig.INSTANCE.getConfigAsDouble("visual.tolerance.ratio", 0.001),
+                FrameworkConfig.INSTANCE.getConfigAsInt("visual.tileSize", 256),
+                List.of());
+    }
+
+    public ComparisonOptions withTolerance(int pixelTolerance, double maxDiffRatio) {
+        return new ComparisonOptions(pixelTolerance, maxDiffRatio, tileSize, ignoreRegions);
+    }
+
+    public ComparisonOptions ignoring(Rectangle... regions) {
+        List<Rectangle> combined = new ArrayList<>(ignoreRegions);
+        combined.addAll(List.of(regions));
+        return new ComparisonOptions(pixelTolerance, maxDiffRatio, tileSize, combined);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.selenium.framework.visual;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Outcome of an image comparison.
+ *
+ * @param matches Whether the images match within the tolerance
+ * @param differentPixels Number of differing pixels found; once the limit was exceeded the comparison stops, so
+ *                        for a failed comparison this is a lower bound unless {@code complete} is set
+ * @param totalPixels Number of pixels of the images
+ * @param complete Whether every tile was compared
+ * @param reason Why the images could not be compared pixel by pixel, null if they could
+ * @param diffImage The actual image with differing pixels in red and ignored regions tinted, only for failed
+ *                  comparisons of images of the same size
+ */
+public record ComparisonResult(boolean matches, long differentPixels, long totalPixels, boolean complete, String reason, BufferedImage diffImage) {
+
+    public double diffRatio() {
+        return totalPixels == 0 ? 0 : (double) differentPixels / totalPixels;
+    }
+
+    @Override
+    public String toString() {
+        if (reason != null) {
+            return reason;
+        }
+        return String.format("%s%d of %d pixels differ (%.3f%%)", complete ? "" : "at least ", differentPixels, totalPixels, diffRatio() * 100);
+    }
+}
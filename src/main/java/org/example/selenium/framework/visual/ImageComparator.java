@@ -0,0 +1,268 @@
+package org.example.selenium.framework.visual;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Compares two images pixel by pixel.
+ * <p>
+ * The images are split into square tiles that are compared in parallel on the common fork-join pool. Pixels are
+ * compared on their RGB channels; alpha is ignored, since screenshots differ in whether they have it. As soon as
+ * more pixels differ than the tolerance allows, all tiles stop, so a clear mismatch costs a fraction of a full pass.
+ * Only a failed comparison renders a diff image, in a second parallel pass over all tiles.
+ * </p>
+ */
+public class ImageComparator {
+    private static final int SPLIT_THRESHOLD = 4;
+    private static final int DIFF_COLOUR = 0xFFFF0000;
+
+    /**
+     * Compare an image against its baseline.
+     *
+     * @param baseline The expected image
+     * @param actual The actual image
+     * @param options Tolerance, tile size and ignore regions
+     * @return The outcome, with a diff image if the images don't match
+     */
+    public static ComparisonResult compare(BufferedImage baseline, BufferedImage actual, ComparisonOptions options) {
+        int width = baseline.getWidth();
+        int height = baseline.getHeight();
+        long totalPixels = (long) width * height;
+        if (actual.getWidth() != width || actual.getHeight() != height) {
+            return new ComparisonResult(false, totalPixels, totalPixels, true,
+                    String.format("Image size %dx%d differs from baseline size %dx%d", actual.getWidth(), actual.getHeight(), width, height), null);
+        }
+
+        Comparison comparison = new Comparison(pixels(baseline), pixels(actual), width, options,
+                (long) Math.floor(options.maxDiffRatio() * totalPixels));
+        List<Rectangle> tiles = tiles(width, height, options.tileSize());
+        ForkJoinPool.commonPool().invoke(new TileTask(comparison, tiles, 0, tiles.size(), false));
+
+        long differentPixels = comparison.differentPixels.get();
+        boolean matches = differentPixels <= comparison.allowedPixels;
+        if (matches) {
+            return new ComparisonResult(true, differentPixels, totalPixels, true, null, null);
+        }
+
+        comparison.diff = new int[width * height];
+        ForkJoinPool.commonPool().invoke(new TileTask(comparison, tiles, 0, tiles.size(), true));
+        BufferedImage diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        diffImage.setRGB(0, 0, width, height, comparison.diff, 0, width);
+        return new ComparisonResult(false, comparison.renderedDifferentPixels.get(), totalPixels, true, null, diffImage);
+    }
+
+    /**
+     * The pixels of an image as ARGB ints. Int rasters are used as they are; the byte rasters ImageIO decodes PNGs
+     * into are converted in one pass over the raster, in parallel by rows, instead of per pixel through the colour
+     * model.
+     */
+    private static int[] pixels(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int type = image.getType();
+        WritableRaster raster = image.getRaster();
+        boolean plainRaster = raster.getParent() == null && raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0;
+        if ((type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB)
+                && plainRaster
+                && raster.getDataBuffer() instanceof DataBufferInt buffer
+                && buffer.getNumBanks() == 1
+                && buffer.getSize() == width * height) {
+            return buffer.getData();
+        }
+
+        int[] pixels = new int[width * height];
+        if ((type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_4BYTE_ABGR)
+                && plainRaster
+                && raster.getDataBuffer() instanceof DataBufferByte buffer
+                && buffer.getNumBanks() == 1) {
+            byte[] data = buffer.getData();
+            boolean alpha = type == BufferedImage.TYPE_4BYTE_ABGR;
+            int bytesPerPixel = alpha ? 4 : 3;
+            if (data.length >= pixels.length * bytesPerPixel) {
+                IntStream.range(0, height).parallel().forEach(y -> {
+                    int in = y * width * bytesPerPixel;
+                    for (int out = y * width, end = out + width; out < end; out++) {
+                        int a = alpha ? data[in++] & 0xFF : 0xFF;
+                        int b = data[in++] & 0xFF;
+                        int g = data[in++] & 0xFF;
+                        int r = data[in++] & 0xFF;
+                        pixels[out] = a << 24 | r << 16 | g << 8 | b;
+                    }
+                });
+                return pixels;
+            }
+        }
+        // Other layouts, e.g. palette or grey images, through the colour model
+        IntStream.range(0, height).parallel().forEach(y -> image.getRGB(0, y, width, 1, pixels, y * width, width));
+        return pixels;
+    }
+
+    private static List<Rectangle> tiles(int width, int height, int tileSize) {
+        List<Rectangle> tiles = new ArrayList<>();
+        for (int y = 0; y < height; y += tileSize) {
+            for (int x = 0; x < width; x += tileSize) {
+                tiles.add(new Rectangle(x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y)));
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * State shared by the tile tasks of one comparison.
+     */
+    private static final class Comparison {
+        final int[] expected;
+        final int[] actual;
+        final int width;
+        final int tolerance;
+        final List<Rectangle> ignoreRegions;
+        final long allowedPixels;
+        final AtomicLong differentPixels = new AtomicLong();
+        final AtomicLong renderedDifferentPixels = new AtomicLong();
+        volatile boolean exceeded;
+        int[] diff;
+
+        Comparison(int[] expected, int[] actual, int width, ComparisonOptions options, long allowedPixels) {
+            this.expected = expected;
+            this.actual = actual;
+            this.width = width;
+            this.tolerance = options.pixelTolerance();
+            this.ignoreRegions = options.ignoreRegions();
+            this.allowedPixels = allowedPixels;
+        }
+
+        boolean differs(int expectedPixel, int actualPixel) {
+            if (((expectedPixel ^ actualPixel) & 0xFFFFFF) == 0) {
+                return false;
+            }
+            return Math.abs(((expectedPixel >> 16) & 0xFF) - ((actualPixel >> 16) & 0xFF)) > tolerance
+                    || Math.abs(((expectedPixel >> 8) & 0xFF) - ((actualPixel >> 8) & 0xFF)) > tolerance
+                    || Math.abs((expectedPixel & 0xFF) - (actualPixel & 0xFF)) > tolerance;
+        }
+    }
+
+    /**
+     * Compares, or renders the diff of, a range of tiles, splitting it while it is large.
+     */
+    @SuppressWarnings("serial") // Fork/join tasks are never serialized
+    private static final class TileTask extends RecursiveAction {
+        private final Comparison comparison;
+        private final List<Rectangle> tiles;
+        private final int from;
+        private final int to;
+        private final boolean render;
+
+        TileTask(Comparison comparison, List<Rectangle> tiles, int from, int to, boolean render) {
+            this.comparison = comparison;
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+            this.render = render;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TileTask(comparison, tiles, from, middle, render), new TileTask(comparison, tiles, middle, to, render));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (render) {
+                    renderTile(tiles.get(i));
+                } else if (comparison.exceeded || !compareTile(tiles.get(i))) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Count the differing pixels of a tile.
+         *
+         * @return false once the images are known not to match
+         */
+        private boolean compareTile(Rectangle tile) {
+            List<Rectangle> ignored = ignoredIn(tile);
+            int[] expected = comparison.expected;
+            int[] actual = comparison.actual;
+            long different = 0;
+            for (int y = tile.y; y < tile.y + tile.height; y++) {
+                int offset = y * comparison.width;
+                for (int x = tile.x; x < tile.x + tile.width; x++) {
+                    if (comparison.differs(expected[offset + x], actual[offset + x]) && !isIgnored(ignored, x, y)) {
+                        different++;
+                    }
+                }
+                if (different > 0 && comparison.differentPixels.get() + different > comparison.allowedPixels) {
+                    break;
+                }
+            }
+            if (different == 0) {
+                return true;
+            }
+            if (comparison.differentPixels.addAndGet(different) > comparison.allowedPixels) {
+                comparison.exceeded = true;
+                return false;
+            }
+            return true;
+        }
+
+        private void renderTile(Rectangle tile) {
+            List<Rectangle> ignored = ignoredIn(tile);
+            int[] expected = comparison.expected;
+            int[] actual = comparison.actual;
+            int[] diff = comparison.diff;
+            long different = 0;
+            for (int y = tile.y; y < tile.y + tile.height; y++) {
+                int offset = y * comparison.width;
+                for (int x = tile.x; x < tile.x + tile.width; x++) {
+                    int index = offset + x;
+                    int pixel = actual[index];
+                    // Faded grey of the actual image, so the red differences stand out
+                    int grey = (((pixel >> 16) & 0xFF) + ((pixel >> 8) & 0xFF) + (pixel & 0xFF)) / 3;
+                    int faded = 0xC0 + grey / 4;
+                    if (isIgnored(ignored, x, y)) {
+                        diff[index] = 0xFF000000 | (faded / 2) << 16 | (faded / 2) << 8 | faded;
+                    } else if (comparison.differs(expected[index], pixel)) {
+                        diff[index] = DIFF_COLOUR;
+                        different++;
+                    } else {
+                        diff[index] = 0xFF000000 | faded << 16 | faded << 8 | faded;
+                    }
+                }
+            }
+            comparison.renderedDifferentPixels.addAndGet(different);
+        }
+
+        private List<Rectangle> ignoredIn(Rectangle tile) {
+            List<Rectangle> ignored = List.of();
+            for (Rectangle region : comparison.ignoreRegions) {
+                if (region.intersects(tile)) {
+                    if (ignored.isEmpty()) {
+                        ignored = new ArrayList<>();
+                    }
+                    ignored.add(region);
+                }
+            }
+            return ignored;
+        }
+
+        private static boolean isIgnored(List<Rectangle> ignored, int x, int y) {
+            for (int i = 0; i < ignored.size(); i++) {
+                if (ignored.get(i).contains(x, y)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
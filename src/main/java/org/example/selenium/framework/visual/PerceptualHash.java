@@ -0,0 +1,66 @@
+package org.example.selenium.framework.visual;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Perceptual hashes of images: similar looking images get hashes that differ in few bits, so the
+ * {@link #distance(long, long) distance} of two hashes tells how different two images look without comparing pixels.
+ */
+public class PerceptualHash {
+    private static final int COLUMNS = 9;
+    private static final int ROWS = 8;
+
+    /**
+     * The difference hash (dHash) of an image: the image is reduced to 9x8 cells of average luminance, and each of
+     * the 64 bits tells whether a cell is brighter than its right neighbour. The reduction averages all pixels of a
+     * cell, so scaling, compression noise and anti-aliasing barely change the hash.
+     *
+     * @param image The image
+     * @return The 64 bit hash
+     */
+    public static long dHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        long[] sums = new long[COLUMNS * ROWS];
+        long[] counts = new long[COLUMNS * ROWS];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellRow = (int) ((long) y * ROWS / height) * COLUMNS;
+            for (int x = 0; x < width; x++) {
+                int pixel = row[x];
+                // Integer approximation of the Rec. 601 luma weights
+                int luminance = (299 * ((pixel >> 16) & 0xFF) + 587 * ((pixel >> 8) & 0xFF) + 114 * (pixel & 0xFF)) / 1000;
+                int cell = cellRow + (int) ((long) x * COLUMNS / width);
+                sums[cell] += luminance;
+                counts[cell]++;
+            }
+        }
+
+        long hash = 0;
+        for (int y = 0; y < ROWS; y++) {
+            for (int x = 0; x < COLUMNS - 1; x++) {
+                int cell = y * COLUMNS + x;
+                // Compare averages without dividing: a/b > c/d <=> a*d > c*b for positive counts
+                boolean brighter = sums[cell] * Math.max(counts[cell + 1], 1) > sums[cell + 1] * Math.max(counts[cell], 1);
+                hash = hash << 1 | (brighter ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Number of differing bits of two hashes, 0 for perceptually identical images and up to 64.
+     */
+    public static int distance(long hash, long otherHash) {
+        return Long.bitCount(hash ^ otherHash);
+    }
+
+    public static String toHex(long hash) {
+        return String.format("%016x", hash);
+    }
+
+    public static long fromHex(String hex) {
+        return Long.parseUnsignedLong(hex, 16);
+    }
+}
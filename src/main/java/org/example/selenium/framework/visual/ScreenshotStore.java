@@ -0,0 +1,348 @@
+package org.example.selenium.framework.visual;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.selenium.framework.config.FrameworkConfig;
+import org.example.selenium.framework.reports.dto.ScreenshotCaptureDTO;
+import org.example.selenium.framework.reports.dto.ScreenshotIndexDTO;
+import org.example.selenium.framework.reports.dto.ScreenshotObjectDTO;
+import org.example.selenium.framework.results.ScreenshotRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Content-addressed store for screenshots in screenshot.directory. Images are stored once under the SHA-256 of
+ * their bytes, so the same page captured by many tests and runs takes the space of one file. With
+ * screenshot.dedupe.perceptual (off by default) an image whose perceptual hash equals that of a stored image is not
+ * stored either, which also catches screenshots that only differ in encoding or invisible noise. The hash only sees
+ * a 9x8 grey thumbnail, so the referenced image may lack details of the capture, such as an error message.
+ * <p>
+ * The index (index.json) records every stored image with its perceptual hash, and the latest capture of every
+ * screenshot name together with the capture of the run before it. Whether a page changed since the last run is
+ * answered from the index, without decoding images. The index is loaded when the store is created and written when
+ * it is closed, merged into the current file under a lock like the run index. Images that no capture in the index
+ * references any more, neither as latest nor as previous capture, are deleted then.
+ * </p>
+ * <p>
+ * The store of the current run, see {@link #current()}, also holds the screenshots and diff images of failed
+ * visual comparisons.
+ * </p>
+ */
+public class ScreenshotStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ScreenshotStore.class);
+    private static final String INDEX_FILE = "index.json";
+    private static final String LOCK_FILE = "index.lock";
+    private static final String OBJECTS_DIRECTORY = "objects";
+    private static volatile ScreenshotStore current;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final String runId;
+    private final boolean perceptualDedupe;
+    private final int changeDistance;
+    private final ScreenshotIndexDTO index;
+    private final Map<Long, String> objectsByPerceptualHash = new HashMap<>();
+    private final Map<String, ScreenshotObjectDTO> storedObjects = new HashMap<>();
+    private final Map<String, ScreenshotCaptureDTO> storedCaptures = new HashMap<>();
+
+    /**
+     * @param directory The directory of the store
+     * @param runId Id of the current run, captures of other runs are the previous captures
+     * @param perceptualDedupe Whether to reuse a stored image with the same perceptual hash
+     * @param changeDistance Largest perceptual hash distance at which a capture counts as unchanged
+     */
+    public ScreenshotStore(Path directory, String runId, boolean perceptualDedupe, int changeDistance) {
+        this.directory = directory;
+        this.runId = runId;
+        this.perceptualDedupe = perceptualDedupe;
+        this.changeDistance = changeDistance;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.index = readIndex();
+        for (ScreenshotObjectDTO object : index.getObjects().values()) {
+            objectsByPerceptualHash.putIfAbsent(PerceptualHash.fromHex(object.getPerceptualHash()), object.getSha256());
+        }
+    }
+
+    public static ScreenshotStore fromConfig(String runId) {
+        return new ScreenshotStore(Paths.get(FrameworkConfig.INSTANCE.getConfig("screenshot.directory", "target/screenshots")), runId,
+                FrameworkConfig.INSTANCE.getConfigAsBoolean("screenshot.dedupe.perceptual"),
+                FrameworkConfig.INSTANCE.getConfigAsInt("screenshot.change.distance", 2));
+    }
+
+    /**
+     * The store of the current test run.
+     *
+     * @return The store, null outside a test run
+     */
+    public static ScreenshotStore current() {
+        return current;
+    }
+
+    /**
+     * Make a store the store of the current test run, or clear it with null.
+     */
+    public static void setCurrent(ScreenshotStore store) {
+        current = store;
+    }
+
+    /**
+     * Store a screenshot. Safe to call from test threads.
+     *
+     * @param name Name of the screenshot, unique per test and label, e.g. "LoginTest.login/failure"
+     * @param png The screenshot as PNG
+     * @return Reference to the stored image, with the change since the previous run
+     * @throws IOException If the image cannot be decoded or written
+     */
+    public ScreenshotRef store(String name, byte[] png) throws IOException {
+        return store(name, png, null);
+    }
+
+    /**
+     * Store an image as PNG. Safe to call from test threads.
+     *
+     * @param name Name of the image, unique per test and label, e.g. "login-page/diff"
+     * @param image The image
+     * @return Reference to the stored image, with the change since the previous run
+     * @throws IOException If the image cannot be encoded or written
+     */
+    public ScreenshotRef store(String name, BufferedImage image) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", png)) {
+            throw new IOException("No PNG writer available");
+        }
+        return store(name, png.toByteArray(), image);
+    }
+
+    /**
+     * Hashing, decoding and writing the image file run outside the store's lock, only index updates are
+     * synchronised, so test threads capturing at the same time don't wait for each other's images.
+     */
+    private ScreenshotRef store(String name, byte[] png, BufferedImage decoded) throws IOException {
+        String sha256 = sha256(png);
+        ScreenshotObjectDTO object = storedObject(sha256);
+        long perceptualHash;
+        if (object != null) {
+            // Byte-identical to a stored image: no need to decode it, the index has the hash
+            perceptualHash = PerceptualHash.fromHex(object.getPerceptualHash());
+        } else {
+            // The image may also be indexed but deleted since by another run collecting unreferenced images
+            BufferedImage image = decoded != null ? decoded : Screenshots.decode(png);
+            perceptualHash = PerceptualHash.dHash(image);
+            object = perceptualDedupe ? storedObject(similarObject(perceptualHash)) : null;
+            if (object != null) {
+                log.debug("Screenshot {} is perceptually identical to stored image {}", name, object.getSha256());
+            } else {
+                object = addObject(write(sha256, perceptualHash, image, png), perceptualHash);
+            }
+        }
+        return addCapture(name, object, perceptualHash);
+    }
+
+    /**
+     * The indexed image with the given hash, if its file still exists.
+     */
+    private ScreenshotObjectDTO storedObject(String sha256) {
+        ScreenshotObjectDTO object;
+        synchronized (this) {
+            object = sha256 != null ? index.getObjects().get(sha256) : null;
+        }
+        return object != null && Files.exists(directory.resolve(object.getPath())) ? object : null;
+    }
+
+    private synchronized String similarObject(long perceptualHash) {
+        return objectsByPerceptualHash.get(perceptualHash);
+    }
+
+    private synchronized ScreenshotObjectDTO addObject(ScreenshotObjectDTO object, long perceptualHash) {
+        index.getObjects().put(object.getSha256(), object);
+        objectsByPerceptualHash.putIfAbsent(perceptualHash, object.getSha256());
+        storedObjects.put(object.getSha256(), object);
+        return object;
+    }
+
+    private synchronized ScreenshotRef addCapture(String name, ScreenshotObjectDTO object, long perceptualHash) {
+        ScreenshotCaptureDTO previous = index.getCaptures().get(name);
+        ScreenshotCaptureDTO capture = new ScreenshotCaptureDTO(name, runId, System.currentTimeMillis(), object.getSha256(),
+                PerceptualHash.toHex(perceptualHash), null, null, null);
+        if (previous != null && runId.equals(previous.getRunId())) {
+            // Captured again in this run, the run before stays the reference
+            capture.setPreviousRunId(previous.getPreviousRunId());
+            capture.setPreviousSha256(previous.getPreviousSha256());
+            capture.setPreviousPerceptualHash(previous.getPreviousPerceptualHash());
+        } else if (previous != null) {
+            capture.setPreviousRunId(previous.getRunId());
+            capture.setPreviousSha256(previous.getSha256());
+            capture.setPreviousPerceptualHash(previous.getPerceptualHash());
+        }
+        index.getCaptures().put(name, capture);
+        storedCaptures.put(name, capture);
+
+        int distance = distanceToPrevious(capture);
+        return new ScreenshotRef(name, object.getSha256(), perceptualHash, directory.resolve(object.getPath()).toString(),
+                distance, distance > changeDistance);
+    }
+
+    /**
+     * Perceptual hash distance (0-64) between the latest capture of a screenshot and the capture of the run
+     * before it, read from the index.
+     *
+     * @param name Name of the screenshot
+     * @return The distance, -1 if the screenshot wasn't captured in two runs
+     */
+    public synchronized int distanceSinceLastRun(String name) {
+        ScreenshotCaptureDTO capture = index.getCaptures().get(name);
+        return capture == null ? -1 : distanceToPrevious(capture);
+    }
+
+    /**
+     * Whether a screenshot changed since the last run it was captured in, more than screenshot.change.distance
+     * allows. False if it wasn't captured in two runs.
+     *
+     * @param name Name of the screenshot
+     */
+    public boolean hasChangedSinceLastRun(String name) {
+        return distanceSinceLastRun(name) > changeDistance;
+    }
+
+    /**
+     * Write the images and captures of this run to the index.
+     */
+    @Override
+    @SuppressWarnings("try")
+    public synchronized void close() {
+        if (storedCaptures.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.error("Failed to create the screenshot directory {}", directory, e);
+            return;
+        }
+        try (FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            // Merge into the current index, other runs may have written it since it was loaded
+            ScreenshotIndexDTO current = readIndex();
+            storedObjects.forEach(current.getObjects()::putIfAbsent);
+            for (ScreenshotCaptureDTO capture : storedCaptures.values()) {
+                // Reused images may have been dropped from the index by another run since it was loaded
+                ScreenshotObjectDTO object = index.getObjects().get(capture.getSha256());
+                if (object != null) {
+                    current.getObjects().putIfAbsent(capture.getSha256(), object);
+                }
+            }
+            current.getCaptures().putAll(storedCaptures);
+            int deleted = deleteUnreferenced(current);
+
+            Path tempFile = directory.resolve(INDEX_FILE + ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), current);
+            Files.move(tempFile, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Stored {} screenshots as {} new images in {}, deleted {} unreferenced images",
+                    storedCaptures.size(), storedObjects.size(), directory, deleted);
+        } catch (IOException e) {
+            log.error("Failed to update the screenshot index in {}", directory, e);
+        }
+        storedObjects.clear();
+        storedCaptures.clear();
+    }
+
+    /**
+     * Remove the images no capture references from the index and delete their files. Runs under the index lock,
+     * images of runs that haven't written the index yet are not in it and stay.
+     *
+     * @return Number of deleted images
+     */
+    private int deleteUnreferenced(ScreenshotIndexDTO current) {
+        Set<String> referenced = new HashSet<>();
+        for (ScreenshotCaptureDTO capture : current.getCaptures().values()) {
+            referenced.add(capture.getSha256());
+            if (capture.getPreviousSha256() != null) {
+                referenced.add(capture.getPreviousSha256());
+            }
+        }
+        int deleted = 0;
+        for (Iterator<ScreenshotObjectDTO> objects = current.getObjects().values().iterator(); objects.hasNext(); ) {
+            ScreenshotObjectDTO object = objects.next();
+            if (referenced.contains(object.getSha256())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(object.getPath()));
+                objects.remove();
+                deleted++;
+            } catch (IOException e) {
+                log.warn("Failed to delete unreferenced screenshot {}", object.getPath(), e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Write an image file. Files are named by content, so threads writing the same image at once write the same
+     * bytes; each writes a temporary file of its own and moves it into place.
+     */
+    private ScreenshotObjectDTO write(String sha256, long perceptualHash, BufferedImage image, byte[] png) throws IOException {
+        String path = OBJECTS_DIRECTORY + "/" + sha256.substring(0, 2) + "/" + sha256 + ".png";
+        Path file = directory.resolve(path);
+        if (!Files.exists(file)) {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), sha256, ".tmp");
+            Files.write(tempFile, png);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return new ScreenshotObjectDTO(sha256, PerceptualHash.toHex(perceptualHash), image.getWidth(), image.getHeight(),
+                png.length, path, System.currentTimeMillis());
+    }
+
+    private static int distanceToPrevious(ScreenshotCaptureDTO capture) {
+        if (capture.getPreviousPerceptualHash() == null) {
+            return -1;
+        }
+        return PerceptualHash.distance(PerceptualHash.fromHex(capture.getPerceptualHash()), PerceptualHash.fromHex(capture.getPreviousPerceptualHash()));
+    }
+
+    private ScreenshotIndexDTO readIndex() {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            try {
+                ScreenshotIndexDTO read = objectMapper.readValue(indexFile.toFile(), ScreenshotIndexDTO.class);
+                return new ScreenshotIndexDTO(
+                        read.getObjects() != null ? new HashMap<>(read.getObjects()) : new HashMap<>(),
+                        read.getCaptures() != null ? new HashMap<>(read.getCaptures()) : new HashMap<>());
+            } catch (IOException e) {
+                log.warn("Failed to read the screenshot index {}, starting a new one", indexFile, e);
+            }
+        }
+        return new ScreenshotIndexDTO(new HashMap<>(), new HashMap<>());
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
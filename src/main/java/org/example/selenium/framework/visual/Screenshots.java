@@ -0,0 +1,87 @@
+package org.example.selenium.framework.visual;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Captures screenshots as images for visual comparison.
+ */
+public class Screenshots {
+    /**
+     * Capture the visible part of the page, the viewport. Content scrolled out of view is not in the screenshot,
+     * use {@link #fullPage(WebDriver)} for it.
+     *
+     * @param driver The driver, which must be able to take screenshots
+     * @return The screenshot
+     */
+    public static BufferedImage of(WebDriver driver) {
+        if (!(driver instanceof TakesScreenshot takesScreenshot)) {
+            throw new IllegalArgumentException("Driver cannot take screenshots: " + driver.getClass().getName());
+        }
+        return decode(takesScreenshot.getScreenshotAs(OutputType.BYTES));
+    }
+
+    /**
+     * Capture the whole page, including content outside the viewport. Supported by Firefox and by Chrome and Edge
+     * through CDP; other browsers get the viewport, as with {@link #of(WebDriver)}.
+     *
+     * @param driver The driver, which must be able to take screenshots
+     * @return The screenshot
+     */
+    public static BufferedImage fullPage(WebDriver driver) {
+        WebDriver unwrapped = driver;
+        while (unwrapped instanceof WrapsDriver wrapper && wrapper.getWrappedDriver() != unwrapped) {
+            unwrapped = wrapper.getWrappedDriver();
+        }
+        if (unwrapped instanceof HasFullPageScreenshot firefox) {
+            return decode(firefox.getFullPageScreenshotAs(OutputType.BYTES));
+        }
+        if (unwrapped instanceof HasCdp chromium) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> contentSize = (Map<String, Object>) chromium.executeCdpCommand("Page.getLayoutMetrics", Map.of())
+                    .get("cssContentSize");
+            Map<String, Object> clip = Map.of("x", 0, "y", 0, "scale", 1,
+                    "width", ((Number) contentSize.get("width")).doubleValue(),
+                    "height", ((Number) contentSize.get("height")).doubleValue());
+            Map<String, Object> screenshot = chromium.executeCdpCommand("Page.captureScreenshot",
+                    Map.of("format", "png", "captureBeyondViewport", true, "clip", clip));
+            return decode(Base64.getDecoder().decode((String) screenshot.get("data")));
+        }
+        return of(driver);
+    }
+
+    /**
+     * Capture a single element.
+     *
+     * @param element The element
+     * @return The screenshot of the element
+     */
+    public static BufferedImage of(WebElement element) {
+        return decode(element.getScreenshotAs(OutputType.BYTES));
+    }
+
+    static BufferedImage decode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IOException("Unsupported screenshot format");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode screenshot", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.selenium.framework.visual;
+
+/**
+ * Hamcrest matchers for visual assertions, for use with {@link Screenshots}:
+ * <pre>
+ * assertThat(Screenshots.of(driver), matchesBaseline("login-page").ignoring(clockRegion), "Login page is unchanged");
+ * </pre>
+ */
+public class VisualMatchers {
+    /**
+     * Match a screenshot against the baseline of the given name, with the tolerances of the visual.* configuration.
+     *
+     * @param name Name of the baseline, unique per page or element state
+     * @return The matcher
+     */
+    public static BaselineMatcher matchesBaseline(String name) {
+        return new BaselineMatcher(name, ComparisonOptions.fromConfig());
+    }
+}
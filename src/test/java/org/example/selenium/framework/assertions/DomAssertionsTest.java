@@ -0,0 +1,141 @@
+package org.example.selenium.framework.assertions;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class DomAssertionsTest {
+    private final WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    private final HamcrestAssertionService assertionService = new DefaultHamcrestAssertionService();
+
+    @Test
+    void allChecksAreReadByOneScript() {
+        DomChecks checks = DomChecks.create()
+                .text(By.cssSelector("h1"), equalTo("Welcome"), "heading")
+                .attribute(By.xpath("//a"), "href", equalTo("/home"), "link target")
+                .count(By.tagName("li"), greaterThan(2), "list items")
+                .title(equalTo("Home"), "title");
+        returnFromScript(
+                Arrays.asList(true, "Welcome"),
+                Arrays.asList(true, "/home"),
+                Arrays.asList(true, 3L),
+                Arrays.asList(true, "Home"));
+
+        DomAssertions.assertDom(driver, checks, assertionService);
+
+        ArgumentCaptor<Object> arguments = ArgumentCaptor.forClass(Object.class);
+        verify(javascript(), times(1)).executeScript(anyString(), arguments.capture());
+        assertEquals(List.of(
+                Arrays.asList("TEXT", "css selector", "h1", null),
+                Arrays.asList("ATTRIBUTE", "xpath", "//a", "href"),
+                Arrays.asList("COUNT", "tag name", "li", null),
+                Arrays.asList("TITLE", null, null, null)), arguments.getValue());
+    }
+
+    @Test
+    void singleFailureIsThrownAsItIs() {
+        DomChecks checks = DomChecks.create()
+                .text(By.id("name"), equalTo("Alice"), "name")
+                .displayed(By.id("logout"), is(true), "logout visible");
+        returnFromScript(
+                Arrays.asList(true, "Bob"),
+                Arrays.asList(true, true));
+
+        AssertionError error = assertThrows(AssertionError.class, () -> DomAssertions.assertDom(driver, checks, assertionService));
+
+        assertTrue(error.getMessage().startsWith("name"), error.getMessage());
+        assertEquals(0, error.getSuppressed().length);
+    }
+
+    @Test
+    void allFailuresAreReportedTogether() {
+        DomChecks checks = DomChecks.create()
+                .text(By.id("name"), equalTo("Alice"), "name")
+                .count(By.className("row"), equalTo(5), "rows")
+                .displayed(By.id("missing"), is(true), "banner visible");
+        returnFromScript(
+                Arrays.asList(true, "Bob"),
+                Arrays.asList(true, 5L),
+                Arrays.asList(false, false));
+
+        AssertionError error = assertThrows(AssertionError.class, () -> DomAssertions.assertDom(driver, checks, assertionService));
+
+        assertTrue(error.getMessage().startsWith("2 of 3 DOM checks failed"), error.getMessage());
+        assertTrue(error.getMessage().contains("no element found for " + By.id("missing")), error.getMessage());
+        assertEquals(2, error.getSuppressed().length);
+    }
+
+    @Test
+    void emptyBatchRunsNoScript() {
+        DomAssertions.assertDom(driver, DomChecks.create(), assertionService);
+
+        verify(javascript(), times(0)).executeScript(anyString(), any());
+    }
+
+    @Test
+    void scriptHandlesEveryStandardLocator() {
+        List<By> locators = List.of(By.id("a"), By.name("a"), By.className("a"), By.tagName("a"), By.cssSelector("a"),
+                By.xpath("//a"), By.linkText("a"), By.partialLinkText("a"));
+
+        for (By locator : locators) {
+            String using = ((By.Remotable) locator).getRemoteParameters().using();
+            assertTrue(DomAssertions.SCRIPT.contains("case '" + using + "':"), "No case in the script for '" + using + "' of " + locator);
+        }
+    }
+
+    @Test
+    void locatorMustBeResolvableInThePage() {
+        By custom = new By() {
+            @Override
+            public List<WebElement> findElements(SearchContext context) {
+                return List.of();
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> DomChecks.create().text(custom, equalTo(""), "custom"));
+    }
+
+    @Test
+    void driverMustExecuteScripts() {
+        DomChecks checks = DomChecks.create().title(equalTo("Home"), "title");
+
+        assertThrows(IllegalArgumentException.class, () -> DomAssertions.assertDom(mock(WebDriver.class), checks, assertionService));
+    }
+
+    @Test
+    void unexpectedScriptResultIsRejected() {
+        DomChecks checks = DomChecks.create().title(equalTo("Home"), "title");
+        when(javascript().executeScript(anyString(), any())).thenReturn(null);
+
+        assertThrows(IllegalStateException.class, () -> DomAssertions.assertDom(driver, checks, assertionService));
+    }
+
+    private JavascriptExecutor javascript() {
+        return (JavascriptExecutor) driver;
+    }
+
+    private void returnFromScript(Object... results) {
+        when(javascript().executeScript(anyString(), any())).thenReturn(List.of(results));
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.selenium.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveExactBuckets() {
+        for (long value = 0; value < 16; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertEquals(value, index);
+            assertEquals(value, LatencyHistogram.bucketUpperBound(index));
+        }
+    }
+
+    @Test
+    void everyValueLiesInItsBucketWithinRelativeError() {
+        for (long value = 16; value < 1L << 36; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(value <= upperBound, "value " + value + " above its bucket bound " + upperBound);
+            assertTrue(value > LatencyHistogram.bucketUpperBound(index - 1), "value " + value + " belongs to a lower bucket");
+            assertTrue((upperBound - value) <= value / 16.0, "bucket of " + value + " is too wide: " + upperBound);
+        }
+    }
+
+    @Test
+    void bucketsAreContiguous() {
+        for (int index = 1; index < 500; index++) {
+            assertEquals(LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index - 1) + 1), index);
+        }
+    }
+
+    @Test
+    void percentilesAreCappedByTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L, i % 10 != 0);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(10, snapshot.getFailures());
+        assertEquals(5_050_000, snapshot.getSumMicros());
+        assertEquals(100_000, snapshot.getMaxMicros());
+        assertEquals(100_000, snapshot.getPercentileMicros(100));
+        long median = snapshot.getPercentileMicros(50);
+        assertTrue(median >= 50_000 && median <= 50_000 * 17 / 16, "median " + median);
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5, true);
+        histogram.record(Long.MAX_VALUE, true);
+        List<Long> bounds = new ArrayList<>();
+        histogram.snapshot().forEachBucket((upperBound, count) -> bounds.add(upperBound));
+
+        assertEquals(2, bounds.size());
+        assertEquals(0, bounds.get(0));
+        assertEquals((1L << 37) - 1, bounds.get(1));
+    }
+
+    @Test
+    void emptyHistogramHasNoPercentiles() {
+        assertEquals(0, new LatencyHistogram().snapshot().getPercentileMicros(99));
+    }
+}
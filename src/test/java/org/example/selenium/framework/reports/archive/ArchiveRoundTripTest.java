@@ -0,0 +1,93 @@
+package org.example.selenium.framework.reports.archive;
+
+import org.example.selenium.framework.reports.dto.TestActionDTO;
+import org.example.selenium.framework.reports.dto.TestResultDTO;
+import org.example.selenium.framework.reports.dto.TestRunDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArchiveRoundTripTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testsAndActionsSurviveTheRoundTrip() throws IOException {
+        TestActionDTO navigate = new TestActionDTO("navigate", "https://example.org/", 1_700_000_000_000L, 1_700_000_000_850L, true,
+                null, 812_345, 1, 0, Map.of("ttfb", 120.5, "fcp", 340.0));
+        TestActionDTO click = new TestActionDTO("click", "By.id: submit", 1_700_000_000_900L, 1_700_000_000_950L, false,
+                "Element not interactable: ünïcødé", 48_000, 2, 1, Map.of());
+        TestActionDTO assertion = new TestActionDTO("assertThat", null, 1_700_000_000_960L, 1_700_000_000_940L, true,
+                "clock went backwards", 0, 3, 0, Map.of());
+        List<TestResultDTO> results = List.of(
+                new TestResultDTO("Test1.login", "FAILED", 1_700_000_000_000L, 1_700_000_001_000L, "Element not interactable",
+                        List.of(navigate, click, assertion)),
+                new TestResultDTO("Test1.logout", "PASSED", 1_700_000_001_000L, 1_700_000_001_500L, null, List.of()));
+
+        Path archive = write(new TestRunDTO(results));
+        List<ArchivedTest> tests = new ArrayList<>();
+        try (RunArchiveReader reader = RunArchiveReader.open(archive)) {
+            assertEquals(2, reader.testCount());
+            reader.forEach(tests::add);
+        }
+
+        assertEquals(results.size(), tests.size());
+        for (int i = 0; i < results.size(); i++) {
+            TestResultDTO expected = results.get(i);
+            ArchivedTest actual = tests.get(i);
+            assertEquals(expected.getTestName(), actual.testName());
+            assertEquals(expected.getStatus(), actual.status());
+            assertEquals(expected.getStartTimestamp(), actual.startTimestamp());
+            assertEquals(expected.getEndTimestamp(), actual.endTimestamp());
+            assertEquals(expected.getError(), actual.error());
+            assertEquals(expected.getTestActions().size(), actual.actions().size());
+            for (int j = 0; j < actual.actions().size(); j++) {
+                assertAction(expected.getTestActions().get(j), actual.actions(), j);
+            }
+        }
+        assertNull(tests.get(0).actions().target(2));
+        assertNotEquals(tests.get(0).actions().actionId(0), tests.get(0).actions().actionId(1));
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path file = directory.resolve("not-an-archive");
+        Files.writeString(file, "{\"tests\": []}");
+
+        assertThrows(IOException.class, () -> RunArchiveReader.open(file).close());
+    }
+
+    private static void assertAction(TestActionDTO expected, ArchivedActions actions, int index) {
+        assertEquals(expected.getAction(), actions.action(index));
+        assertEquals(expected.getTarget(), actions.target(index));
+        assertEquals(expected.getStartTimestamp(), actions.startTimestamp(index));
+        assertEquals(expected.getEndTimestamp(), actions.endTimestamp(index));
+        assertEquals(expected.isSuccess(), actions.success(index));
+        assertEquals(expected.getDetailMsg(), actions.detailMsg(index));
+        assertEquals(expected.getTransportMicros(), actions.transportMicros(index));
+        assertEquals(expected.getSpanId(), actions.spanId(index));
+        assertEquals(expected.getParentSpanId(), actions.parentSpanId(index));
+        assertEquals(expected.getMetrics(), actions.metrics(index));
+    }
+
+    private Path write(TestRunDTO run) throws IOException {
+        Path archive = directory.resolve("test-run.archive");
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            new ArchiveReportGenerator(null).write(run, out);
+        }
+        return archive;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.selenium.framework.results;
+
+import org.example.selenium.framework.listener.TestAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void spilledResultsAreReadBackInSchedulingOrder() throws Exception {
+        List<TestResult> expected = List.of(result(0), result(1), result(2));
+        try (ResultStore store = new ResultStore(directory, 0)) {
+            store.add(2, expected.get(2));
+            store.add(0, expected.get(0));
+            store.add(1, expected.get(1));
+
+            assertEquals(3, store.size());
+            assertEquals(3, store.spilledCount());
+            assertEquals(1, spillFiles().size());
+            assertEquals(expected, new ArrayList<>(store.results()));
+        }
+        assertEquals(List.of(), spillFiles());
+    }
+
+    @Test
+    void resultsWithinTheCeilingStayInMemory() throws Exception {
+        TestResult result = result(0);
+        try (ResultStore store = new ResultStore(directory, 1024 * 1024)) {
+            store.add(0, result);
+
+            assertEquals(0, store.spilledCount());
+            assertEquals(List.of(), spillFiles());
+            assertEquals(result, store.results().getFirst());
+        }
+    }
+
+    @Test
+    void interruptedReaderDoesNotBreakOtherReaders() throws Exception {
+        TestResult result = result(0);
+        try (ResultStore store = new ResultStore(directory, 0)) {
+            store.add(0, result);
+            List<TestResult> results = store.results();
+
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread reader = new Thread(() -> {
+                Thread.currentThread().interrupt();
+                try {
+                    results.getFirst();
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            reader.start();
+            reader.join();
+
+            assertNull(failure.get());
+            assertEquals(result, results.getFirst());
+        }
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static TestResult result(int index) throws NoSuchMethodException {
+        Method method = ResultStoreTest.class.getDeclaredMethod("spilledResultsAreReadBackInSchedulingOrder");
+        long start = 1_700_000_000_000L + index * 10_000L;
+        TestAction navigate = new TestAction("navigate", "https://example.org/" + index, start + 100, start + 900, true, null,
+                812_000, 1, 0, Map.of("ttfb", 120.5));
+        TestAction click = new TestAction("click", "By.id: submit", start + 1000, start + 1200, index % 2 == 0, "Element ünïcødé",
+                48_000, 2, 1, Map.of());
+        return new TestResult(method, index % 2 == 0 ? TestStatus.PASSED : TestStatus.FAILED, start, start + 2000,
+                index % 2 == 0 ? null : "Assertion failed",
+                List.of(navigate, click),
+                List.of(new BudgetViolation("navigate", 500, 800, List.of(navigate))),
+                new TestPhases(start - 50, start, start + 80, start + 1900, start + 2000),
+                List.of(new ScreenshotRef("after-login", "ab".repeat(32), 0x0123456789abcdefL, "screenshots/ab.png", 3, true)));
+    }
+}
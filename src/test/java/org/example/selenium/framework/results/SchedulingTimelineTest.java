@@ -0,0 +1,91 @@
+package org.example.selenium.framework.results;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchedulingTimelineTest {
+
+    @Test
+    void criticalPathFollowsTheSlotHandovers() throws NoSuchMethodException {
+        // One slot: b waits for a, c waits for b; d runs on its own and ends early
+        List<TestResult> results = List.of(
+                result("first", 0, 0, 100, 900, 1000),
+                result("second", 0, 1010, 1100, 1900, 2000),
+                result("third", 0, 2005, 2200, 2900, 3000),
+                result("fourth", 0, 0, 10, 20, 30));
+
+        SchedulingTimeline timeline = SchedulingTimeline.of(results, 1, 10);
+
+        SchedulingTimeline.CriticalPath path = timeline.criticalPath();
+        assertEquals(List.of("SchedulingTimelineTest.first", "SchedulingTimelineTest.second", "SchedulingTimelineTest.third"), path.testNames());
+        assertEquals(100 + 90 + 195, path.driverStartupMillis());
+        assertEquals(800 + 800 + 700, path.bodyMillis());
+        assertEquals(100 + 100 + 100, path.teardownMillis());
+        assertEquals(0, timeline.runStartTimestamp());
+        assertEquals(3000, timeline.runEndTimestamp());
+        assertEquals(10, timeline.buckets().size());
+    }
+
+    @Test
+    void busySlotsAreSpreadOverTheBuckets() throws NoSuchMethodException {
+        List<TestResult> results = List.of(
+                result("first", 0, 0, 100, 900, 1000),
+                result("second", 0, 0, 100, 400, 500));
+
+        SchedulingTimeline timeline = SchedulingTimeline.of(results, 2, 2);
+
+        assertEquals(2.0, timeline.buckets().get(0).busySlots(), 1e-9);
+        assertEquals(1.0, timeline.buckets().get(1).busySlots(), 1e-9);
+        assertEquals(0.75, timeline.utilisation(), 1e-9);
+    }
+
+    @Test
+    void longRunsAreWalkedQuickly() throws NoSuchMethodException {
+        // 20 000 tests in a single slot chain: every test waited for the one before it
+        List<TestResult> results = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            long start = i * 100L;
+            results.add(result("first", 0, start, start + 10, start + 80, start + 100));
+        }
+
+        long started = System.nanoTime();
+        SchedulingTimeline timeline = SchedulingTimeline.of(results, 1, 60);
+
+        assertEquals(20_000, timeline.criticalPath().testNames().size());
+        assertTrue(System.nanoTime() - started < 5_000_000_000L, "critical path took too long");
+    }
+
+    @Test
+    void runWithoutPhasesHasNoTimeline() throws NoSuchMethodException {
+        Method method = SchedulingTimelineTest.class.getDeclaredMethod("first");
+        TestResult result = new TestResult(method, TestStatus.PASSED, 0, 10, null, List.of());
+
+        assertNull(SchedulingTimeline.of(List.of(result), 1, 10));
+    }
+
+    private static TestResult result(String name, long queued, long start, long driverReady, long bodyEnd, long end) throws NoSuchMethodException {
+        Method method = SchedulingTimelineTest.class.getDeclaredMethod(name);
+        return new TestResult(method, TestStatus.PASSED, start, end, null, List.of(), List.of(),
+                new TestPhases(queued, start, driverReady, bodyEnd, end));
+    }
+
+    // Test methods the results are attributed to
+    private static void first() {
+    }
+
+    private static void second() {
+    }
+
+    private static void third() {
+    }
+
+    private static void fourth() {
+    }
+}
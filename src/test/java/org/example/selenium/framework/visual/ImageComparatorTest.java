@@ -0,0 +1,105 @@
+package org.example.selenium.framework.visual;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageComparatorTest {
+    private static final ComparisonOptions EXACT = new ComparisonOptions(0, 0, 64, List.of());
+
+    @Test
+    void identicalImagesMatch() {
+        BufferedImage image = noise(300, 200, BufferedImage.TYPE_INT_ARGB, 1);
+
+        ComparisonResult result = ImageComparator.compare(image, copy(image, BufferedImage.TYPE_INT_ARGB), EXACT);
+
+        assertTrue(result.matches());
+        assertEquals(0, result.differentPixels());
+        assertNull(result.diffImage());
+    }
+
+    @Test
+    void byteRastersAreComparedLikeIntRasters() {
+        // ImageIO decodes PNG screenshots to these layouts
+        for (int type : new int[]{BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR}) {
+            BufferedImage image = noise(300, 200, type, 2);
+
+            ComparisonResult result = ImageComparator.compare(image, copy(image, BufferedImage.TYPE_INT_ARGB), EXACT);
+
+            assertTrue(result.matches(), "type " + type + ": " + result);
+        }
+    }
+
+    @Test
+    void changedRegionIsCountedAndDrawn() {
+        BufferedImage baseline = noise(300, 200, BufferedImage.TYPE_INT_RGB, 3);
+        BufferedImage actual = copy(baseline, BufferedImage.TYPE_INT_RGB);
+        fill(actual, new Rectangle(10, 20, 100, 50), 0xFF00FF);
+
+        ComparisonResult result = ImageComparator.compare(baseline, actual, EXACT);
+
+        assertFalse(result.matches());
+        assertTrue(result.complete());
+        assertEquals(100 * 50, result.differentPixels(), result.toString());
+        assertNotNull(result.diffImage());
+        assertEquals(0xFFFF0000, result.diffImage().getRGB(50, 40));
+    }
+
+    @Test
+    void ignoredRegionAndToleranceAreRespected() {
+        BufferedImage baseline = noise(300, 200, BufferedImage.TYPE_INT_RGB, 4);
+        BufferedImage actual = copy(baseline, BufferedImage.TYPE_INT_RGB);
+        Rectangle changed = new Rectangle(10, 20, 100, 50);
+        fill(actual, changed, 0xFF00FF);
+
+        assertTrue(ImageComparator.compare(baseline, actual, EXACT.ignoring(changed)).matches());
+        assertTrue(ImageComparator.compare(baseline, actual, EXACT.withTolerance(0, 0.1)).matches());
+    }
+
+    @Test
+    void differentSizesNeverMatch() {
+        ComparisonResult result = ImageComparator.compare(noise(300, 200, BufferedImage.TYPE_INT_RGB, 5),
+                noise(200, 300, BufferedImage.TYPE_INT_RGB, 5), EXACT);
+
+        assertFalse(result.matches());
+        assertNotNull(result.reason());
+    }
+
+    private static BufferedImage noise(int width, int height, int type, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, 0xFF000000 | random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+
+    private static BufferedImage copy(BufferedImage image, int type) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                copy.setRGB(x, y, image.getRGB(x, y));
+            }
+        }
+        return copy;
+    }
+
+    private static void fill(BufferedImage image, Rectangle region, int rgb) {
+        for (int y = region.y; y < region.y + region.height; y++) {
+            for (int x = region.x; x < region.x + region.width; x++) {
+                image.setRGB(x, y, 0xFF000000 | rgb);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.selenium.framework.visual;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerceptualHashTest {
+
+    @Test
+    void scaledImageHasTheSameHash() {
+        BufferedImage image = gradient(360, 320, false);
+        BufferedImage scaled = new BufferedImage(180, 160, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.drawImage(image, 0, 0, 180, 160, null);
+        graphics.dispose();
+
+        assertTrue(PerceptualHash.distance(PerceptualHash.dHash(image), PerceptualHash.dHash(scaled)) <= 2);
+    }
+
+    @Test
+    void mirroredGradientHasTheOppositeHash() {
+        long hash = PerceptualHash.dHash(gradient(90, 80, false));
+        long mirrored = PerceptualHash.dHash(gradient(90, 80, true));
+
+        assertEquals(64, PerceptualHash.distance(hash, mirrored));
+    }
+
+    @Test
+    void hexRoundTrip() {
+        for (long hash : new long[]{0, 1, -1, Long.MIN_VALUE, 0x0123456789abcdefL}) {
+            String hex = PerceptualHash.toHex(hash);
+            assertEquals(16, hex.length());
+            assertEquals(hash, PerceptualHash.fromHex(hex));
+        }
+    }
+
+    /**
+     * An image getting darker to the right, or brighter if mirrored, with a little vertical variation.
+     */
+    private static BufferedImage gradient(int width, int height, boolean mirrored) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int level = 255 - x * 255 / width;
+                level = mirrored ? 255 - level : level;
+                image.setRGB(x, y, new Color(level, level, Math.min(255, level + y % 8)).getRGB());
+            }
+        }
+        return image;
+    }
+}